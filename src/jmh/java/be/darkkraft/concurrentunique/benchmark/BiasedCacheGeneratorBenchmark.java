@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.benchmark;
+
+import be.darkkraft.concurrentunique.UniqueGenerator;
+import be.darkkraft.concurrentunique.verified.VerifiedGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BiasedCacheGeneratorBenchmark {
+
+    private static final int KEYS = 1 << 10;
+
+    @Param({"SEQUENTIAL", "BIASED", "CONCURRENT"})
+    private String implementation;
+
+    private VerifiedGenerator<Integer> generator;
+    private int next;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        final UniqueGenerator<Integer> delegate = () -> this.next++ & (KEYS - 1);
+        this.generator = switch (this.implementation) {
+            case "SEQUENTIAL" -> delegate.toSequentialCacheVerified(1);
+            case "CONCURRENT" -> delegate.toConcurrentCacheVerified(1);
+            default -> delegate.toBiasedCacheVerified(1);
+        };
+        for (int i = 0; i < KEYS; i++) {
+            this.generator.generate();
+        }
+    }
+
+    @Benchmark
+    public Integer generateOwned() {
+        return this.generator.generate();
+    }
+
+    @Benchmark
+    public boolean isAlreadyExistsOwned() {
+        return this.generator.isAlreadyExists(this.next++ & (KEYS - 1));
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.benchmark;
+
+import be.darkkraft.concurrentunique.UniqueGenerator;
+import be.darkkraft.concurrentunique.verified.VerifiedGenerator;
+import be.darkkraft.concurrentunique.verified.cache.FullCacheGeneratorBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class CacheWarmUpBenchmark {
+
+    @Param({"1000000"})
+    private int keys;
+
+    @Param({"SEQUENTIAL", "CONCURRENT"})
+    private String implementation;
+
+    @Param({"false", "true"})
+    private boolean presized;
+
+    private VerifiedGenerator<Long> generator;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        final UniqueGenerator<Long> delegate = () -> ThreadLocalRandom.current().nextLong();
+        final FullCacheGeneratorBuilder<Long> builder = new FullCacheGeneratorBuilder<>(delegate)
+                .expectedCapacity(this.presized ? this.keys : 0);
+        this.generator = this.implementation.equals("SEQUENTIAL") ? builder.buildSequential() : builder.buildConcurrent();
+    }
+
+    @Benchmark
+    public VerifiedGenerator<Long> warmUp() {
+        for (int i = 0; i < this.keys; i++) {
+            this.generator.generate();
+        }
+        return this.generator;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public Long generate() {
+        return this.generator.generate();
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.benchmark;
+
+import be.darkkraft.concurrentunique.generator.content.ContentGenerator;
+import be.darkkraft.concurrentunique.generator.content.Hash128;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentGeneratorBenchmark {
+
+    @Param({"16", "256", "4096"})
+    private int size;
+
+    private final ContentGenerator<byte[], UUID> bytes = ContentGenerator.bytes().map(Hash128::toUUID);
+    private final ContentGenerator<CharSequence, UUID> chars = ContentGenerator.chars().map(Hash128::toUUID);
+
+    private byte[] data;
+    private String text;
+
+    @Setup
+    public void setup() {
+        this.data = new byte[this.size];
+        ThreadLocalRandom.current().nextBytes(this.data);
+        this.text = new String(this.data, StandardCharsets.ISO_8859_1);
+    }
+
+    @Benchmark
+    public UUID murmurBytes() {
+        return this.bytes.generate(this.data);
+    }
+
+    @Benchmark
+    public UUID murmurChars() {
+        return this.chars.generate(this.text);
+    }
+
+    @Benchmark
+    public UUID nameBased() {
+        return UUID.nameUUIDFromBytes(this.data);
+    }
+
+}
\ No newline at end of file
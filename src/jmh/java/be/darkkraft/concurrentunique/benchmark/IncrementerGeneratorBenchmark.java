@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.benchmark;
+
+import be.darkkraft.concurrentunique.generator.number.IntegerIncrementerGenerator;
+import be.darkkraft.concurrentunique.generator.number.LongIncrementerGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IncrementerGeneratorBenchmark {
+
+    private final IntegerIncrementerGenerator integerGenerator = new IntegerIncrementerGenerator();
+    private final LongIncrementerGenerator longGenerator = new LongIncrementerGenerator();
+
+    @Benchmark
+    @Threads(1)
+    public int integerOneThread() {
+        return this.integerGenerator.generateInt();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int integerFourThreads() {
+        return this.integerGenerator.generateInt();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public int integerMaxThreads() {
+        return this.integerGenerator.generateInt();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long longOneThread() {
+        return this.longGenerator.generateLong();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long longFourThreads() {
+        return this.longGenerator.generateLong();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public long longMaxThreads() {
+        return this.longGenerator.generateLong();
+    }
+
+}
\ No newline at end of file
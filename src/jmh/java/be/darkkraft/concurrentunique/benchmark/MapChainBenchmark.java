@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.benchmark;
+
+import be.darkkraft.concurrentunique.UniqueGenerator;
+import be.darkkraft.concurrentunique.generator.number.LongIncrementerGenerator;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapChainBenchmark {
+
+    private static final List<Function<Long, Long>> FUNCTIONS = List.of(
+            value -> value + 1L,
+            value -> value * 31L,
+            value -> value ^ (value >>> 7),
+            value -> value - 3L,
+            value -> value * 0x9e3779b97f4a7c15L,
+            value -> value ^ (value << 11),
+            value -> value + 0x632be59bd9b4e019L,
+            value -> value ^ (value >>> 29));
+
+    private UniqueGenerator<Long> fused;
+    private UniqueGenerator<Long> nested;
+
+    @Setup
+    public void setup() {
+        final LongIncrementerGenerator source = new LongIncrementerGenerator();
+        UniqueGenerator<Long> fused = source;
+        UniqueGenerator<Long> nested = source;
+        for (final Function<Long, Long> function : FUNCTIONS) {
+            fused = fused.map(function);
+            nested = new NestedMapGenerator(nested, function);
+        }
+        this.fused = fused;
+        this.nested = nested;
+    }
+
+    @Benchmark
+    public Long fused() {
+        return this.fused.generate();
+    }
+
+    @Benchmark
+    public Long nested() {
+        return this.nested.generate();
+    }
+
+    private record NestedMapGenerator(@NotNull UniqueGenerator<Long> delegate, @NotNull Function<Long, Long> function)
+            implements UniqueGenerator<Long> {
+
+        @Override
+        public Long generate() {
+            return this.function.apply(this.delegate.generate());
+        }
+
+    }
+
+}
\ No newline at end of file
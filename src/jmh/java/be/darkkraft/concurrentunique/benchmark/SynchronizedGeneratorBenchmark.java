@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.benchmark;
+
+import be.darkkraft.concurrentunique.UniqueGenerator;
+import be.darkkraft.concurrentunique.generator.string.AlphanumericGenerator;
+import be.darkkraft.concurrentunique.supplier.RandomGeneratorSupplier;
+import be.darkkraft.concurrentunique.verified.VerifiedGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SynchronizedGeneratorBenchmark {
+
+    private UniqueGenerator<String> plain;
+    private UniqueGenerator<String> synchronizedGenerator;
+    private VerifiedGenerator<String> synchronizedVerified;
+
+    @Setup
+    public void setup() {
+        this.plain = AlphanumericGenerator.build(12, RandomGeneratorSupplier.Type.THREAD_LOCAL);
+        this.synchronizedGenerator = this.plain.synchronize();
+        this.synchronizedVerified = this.plain.toVerified(5, value -> false).synchronize();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String plainOneThread() {
+        return this.plain.generate();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String synchronizedOneThread() {
+        return this.synchronizedGenerator.generate();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String synchronizedFourThreads() {
+        return this.synchronizedGenerator.generate();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String synchronizedVerifiedOneThread() {
+        return this.synchronizedVerified.generate();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String synchronizedVerifiedFourThreads() {
+        return this.synchronizedVerified.generate();
+    }
+
+}
\ No newline at end of file
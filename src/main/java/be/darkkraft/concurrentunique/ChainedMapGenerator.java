@@ -24,16 +24,26 @@
 
 package be.darkkraft.concurrentunique;
 
+import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Objects;
 import java.util.function.Function;
 
-record ChainedMapGenerator<T, R>(@NotNull UniqueGenerator<T> delegate, @NotNull Function<T, R> function) implements UniqueGenerator<R> {
+final class ChainedMapGenerator<T, R> implements UniqueGenerator<R> {
 
-    ChainedMapGenerator {
-        Objects.requireNonNull(delegate, "delegate must not be null");
-        Objects.requireNonNull(function, "function must not be null");
+    private final UniqueGenerator<T> delegate;
+    private final Function<T, R> function;
+    private final int stageCount;
+
+    ChainedMapGenerator(final @NotNull UniqueGenerator<T> delegate, final @NotNull Function<T, R> function) {
+        this(delegate, Objects.requireNonNull(function, "function must not be null"), 1);
+    }
+
+    private ChainedMapGenerator(final @NotNull UniqueGenerator<T> delegate, final @NotNull Function<T, R> function, final int stageCount) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        this.function = function;
+        this.stageCount = stageCount;
     }
 
     @Override
@@ -41,4 +51,21 @@ record ChainedMapGenerator<T, R>(@NotNull UniqueGenerator<T> delegate, @NotNull
         return this.function.apply(this.delegate.generate());
     }
 
+    @Override
+    @Contract("_ -> new")
+    public <V> @NotNull UniqueGenerator<V> map(final @NotNull Function<R, V> function) {
+        Objects.requireNonNull(function, "function must not be null");
+        return new ChainedMapGenerator<>(this.delegate, this.function.andThen(function), this.stageCount + 1);
+    }
+
+    @Override
+    public @NotNull UniqueGenerator<R> split(final long expected) {
+        final UniqueGenerator<T> split = this.delegate.split(expected);
+        return split == this.delegate ? this : new ChainedMapGenerator<>(split, this.function, this.stageCount);
+    }
+
+    int getStageCount() {
+        return this.stageCount;
+    }
+
 }
\ No newline at end of file
@@ -24,8 +24,11 @@
 
 package be.darkkraft.concurrentunique;
 
+import be.darkkraft.concurrentunique.jfr.LockContentionEvent;
+import be.darkkraft.concurrentunique.metrics.MetricsSink;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -36,14 +39,48 @@ record ChainedSynchronizedGenerator<T>(@NotNull UniqueGenerator<T> delegate) imp
     }
 
     @Override
-    public synchronized T generate() {
-        return this.delegate.generate();
+    public T generate() {
+        final LockContentionEvent event = new LockContentionEvent();
+        if (!event.isEnabled()) {
+            synchronized (this) {
+                return this.delegate.generate();
+            }
+        }
+        event.begin();
+        synchronized (this) {
+            event.acquired(this);
+            return this.delegate.generate();
+        }
     }
 
     @Override
-    public synchronized <R> R compute(final @NotNull Function<T, R> function) {
+    public synchronized @NotNull List<T> generateBatch(final int count) {
+        return this.delegate.generateBatch(count);
+    }
+
+    @Override
+    public synchronized <R> R computeLocked(final @NotNull Function<T, R> function) {
         final T generated = this.generate();
         return function.apply(generated);
     }
 
+    @Override
+    public @NotNull UniqueGenerator<T> synchronize() {
+        return this;
+    }
+
+    @Override
+    public @NotNull UniqueGenerator<T> split(final long expected) {
+        final UniqueGenerator<T> split = this.delegate.split(expected);
+        return split == this.delegate ? this : split;
+    }
+
+    @Override
+    public @NotNull UniqueGenerator<T> instrumented(final @NotNull MetricsSink sink) {
+        if (Objects.requireNonNull(sink, "sink must not be null") == MetricsSink.noop()) {
+            return this;
+        }
+        return new InstrumentedGenerator<>(this.delegate, sink, this);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+final class GeneratorSpliterator<T> implements Spliterator<T> {
+
+    private static final long MIN_SPLIT_SIZE = 1024L;
+
+    private final UniqueGenerator<T> generator;
+    private long remaining;
+
+    GeneratorSpliterator(final @NotNull UniqueGenerator<T> generator, final long size) {
+        if (size < 0L) {
+            throw new IllegalArgumentException("Stream size must not be negative: " + size);
+        }
+        this.generator = Objects.requireNonNull(generator, "generator must not be null");
+        this.remaining = size;
+    }
+
+    @Override
+    public boolean tryAdvance(final @NotNull Consumer<? super T> action) {
+        Objects.requireNonNull(action, "action must not be null");
+        if (this.remaining <= 0L) {
+            return false;
+        }
+        this.remaining--;
+        action.accept(this.generator.generate());
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final @NotNull Consumer<? super T> action) {
+        Objects.requireNonNull(action, "action must not be null");
+        final UniqueGenerator<T> generator = this.generator;
+        for (long i = this.remaining; i > 0L; i--) {
+            action.accept(generator.generate());
+        }
+        this.remaining = 0L;
+    }
+
+    @Override
+    public @Nullable Spliterator<T> trySplit() {
+        if (this.remaining < MIN_SPLIT_SIZE << 1) {
+            return null;
+        }
+        final long half = this.remaining >>> 1;
+        this.remaining -= half;
+        return new GeneratorSpliterator<>(this.generator.split(half), half);
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.remaining;
+    }
+
+    @Override
+    public int characteristics() {
+        return SIZED | SUBSIZED | IMMUTABLE;
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique;
+
+import be.darkkraft.concurrentunique.metrics.MetricsSink;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+record InstrumentedGenerator<T>(@NotNull UniqueGenerator<T> delegate, @NotNull MetricsSink sink, @Nullable Object monitor)
+        implements UniqueGenerator<T> {
+
+    InstrumentedGenerator {
+        Objects.requireNonNull(delegate, "delegate must not be null");
+        Objects.requireNonNull(sink, "sink must not be null");
+    }
+
+    @Override
+    public T generate() {
+        final long start = System.nanoTime();
+        final T generated;
+        if (this.monitor == null) {
+            generated = this.delegate.generate();
+        } else {
+            synchronized (this.monitor) {
+                this.sink.onLockWait(System.nanoTime() - start);
+                generated = this.delegate.generate();
+            }
+        }
+        this.sink.onGenerate(System.nanoTime() - start);
+        return generated;
+    }
+
+    @Override
+    public <R> R computeLocked(final @NotNull Function<T, R> function) {
+        if (this.monitor == null) {
+            return this.compute(function);
+        }
+        synchronized (this.monitor) {
+            return function.apply(this.generate());
+        }
+    }
+
+    @Override
+    public @NotNull UniqueGenerator<T> split(final long expected) {
+        final UniqueGenerator<T> split = this.delegate.split(expected);
+        return split == this.delegate ? this : new InstrumentedGenerator<>(split, this.sink, null);
+    }
+
+}
\ No newline at end of file
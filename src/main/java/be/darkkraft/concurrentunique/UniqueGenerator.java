@@ -24,15 +24,24 @@
 
 package be.darkkraft.concurrentunique;
 
+import be.darkkraft.concurrentunique.flow.GeneratorPublisher;
+import be.darkkraft.concurrentunique.metrics.MetricsSink;
 import be.darkkraft.concurrentunique.verified.VerifiedGenerator;
+import be.darkkraft.concurrentunique.verified.cache.BiasedCacheGenerator;
 import be.darkkraft.concurrentunique.verified.cache.ConcurrentFullCacheGenerator;
 import be.darkkraft.concurrentunique.verified.cache.SequentialFullCacheGenerator;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public interface UniqueGenerator<T> {
 
@@ -42,26 +51,68 @@ public interface UniqueGenerator<T> {
 
     T generate();
 
+    default @NotNull List<T> generateBatch(final int count) {
+        final List<T> generated = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            generated.add(this.generate());
+        }
+        return generated;
+    }
+
     default <R> R compute(final @NotNull Function<T, R> function) {
         final T generated = this.generate();
         return function.apply(generated);
     }
 
+    default <R> R computeLocked(final @NotNull Function<T, R> function) {
+        return this.compute(function);
+    }
+
+    default @NotNull UniqueGenerator<T> split(final long expected) {
+        return this;
+    }
+
     @Contract("_ -> new")
     default <R> @NotNull UniqueGenerator<R> map(final @NotNull Function<T, R> function) {
         return new ChainedMapGenerator<>(this, function);
     }
 
-    @Contract("-> new")
     default @NotNull UniqueGenerator<T> synchronize() {
         return new ChainedSynchronizedGenerator<>(this);
     }
 
+    default @NotNull UniqueGenerator<T> instrumented(final @NotNull MetricsSink sink) {
+        if (Objects.requireNonNull(sink, "sink must not be null") == MetricsSink.noop()) {
+            return this;
+        }
+        return new InstrumentedGenerator<>(this, sink, null);
+    }
+
     @Contract("-> new")
     default @NotNull Stream<T> stream() {
         return Stream.generate(this::generate);
     }
 
+    @Contract("_ -> new")
+    default @NotNull Stream<T> stream(final long size) {
+        return StreamSupport.stream(new GeneratorSpliterator<>(this, size), false);
+    }
+
+    @Contract("_ -> new")
+    default @NotNull Stream<T> parallelStream(final long size) {
+        return StreamSupport.stream(new GeneratorSpliterator<>(this, size), true);
+    }
+
+    @Contract("-> new")
+    default @NotNull Flow.Publisher<T> toPublisher() {
+        return new GeneratorPublisher<>(this);
+    }
+
+    @Contract("_, _ -> new")
+    default @NotNull Flow.Publisher<T> toPublisher(final @NotNull Executor executor, final int batchSize) {
+        return new GeneratorPublisher<>(this, executor, batchSize);
+    }
+
     @Contract("_, _ -> new")
     default @NotNull VerifiedGenerator<T> toVerified(final int maxRetry, final @NotNull Predicate<T> existPredicate) {
         return VerifiedGenerator.wrap(this, maxRetry, existPredicate);
@@ -77,4 +128,9 @@ public interface UniqueGenerator<T> {
         return new ConcurrentFullCacheGenerator<>(this, maxRetry);
     }
 
+    @Contract("_ -> new")
+    default @NotNull VerifiedGenerator<T> toBiasedCacheVerified(final int maxRetry) {
+        return new BiasedCacheGenerator<>(this, maxRetry);
+    }
+
 }
\ No newline at end of file
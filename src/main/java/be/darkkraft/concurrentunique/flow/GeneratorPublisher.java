@@ -0,0 +1,191 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.flow;
+
+import be.darkkraft.concurrentunique.UniqueGenerator;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+public final class GeneratorPublisher<T> implements Flow.Publisher<T> {
+
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private final UniqueGenerator<T> generator;
+    private final Executor executor;
+    private final int batchSize;
+    private final Consumer<? super T> discarded;
+
+    public GeneratorPublisher(final @NotNull UniqueGenerator<T> generator) {
+        this(generator, ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    public GeneratorPublisher(final @NotNull UniqueGenerator<T> generator, final @NotNull Executor executor, final int batchSize) {
+        this(generator, executor, batchSize, value -> {
+        });
+    }
+
+    public GeneratorPublisher(final @NotNull UniqueGenerator<T> generator,
+                              final @NotNull Executor executor,
+                              final int batchSize,
+                              final @NotNull Consumer<? super T> discarded) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        this.generator = Objects.requireNonNull(generator, "generator must not be null");
+        this.executor = Objects.requireNonNull(executor, "executor must not be null");
+        this.discarded = Objects.requireNonNull(discarded, "discarded must not be null");
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void subscribe(final @NotNull Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber must not be null");
+        subscriber.onSubscribe(new GeneratorSubscription<>(this.generator, this.executor, this.batchSize, this.discarded, subscriber));
+    }
+
+    private static final class GeneratorSubscription<T> implements Flow.Subscription {
+
+        private final UniqueGenerator<T> generator;
+        private final Executor executor;
+        private final int batchSize;
+        private final Consumer<? super T> discarded;
+        private final Flow.Subscriber<? super T> subscriber;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private volatile boolean cancelled;
+        private volatile Throwable error;
+
+        private GeneratorSubscription(final @NotNull UniqueGenerator<T> generator,
+                                      final @NotNull Executor executor,
+                                      final int batchSize,
+                                      final @NotNull Consumer<? super T> discarded,
+                                      final @NotNull Flow.Subscriber<? super T> subscriber) {
+            this.generator = generator;
+            this.executor = executor;
+            this.batchSize = batchSize;
+            this.discarded = discarded;
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0L) {
+                this.error = new IllegalArgumentException("Requested amount must be positive: " + n);
+            } else {
+                this.requested.getAndAccumulate(n, (current, added) -> {
+                    final long sum = current + added;
+                    return sum < 0L ? Long.MAX_VALUE : sum;
+                });
+            }
+            this.schedule();
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+        }
+
+        private void schedule() {
+            if (this.wip.getAndIncrement() != 0) {
+                return;
+            }
+            try {
+                this.executor.execute(this::drain);
+            } catch (final RejectedExecutionException exception) {
+                this.cancelled = true;
+                this.subscriber.onError(exception);
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                if (this.cancelled) {
+                    return;
+                }
+                final Throwable error = this.error;
+                if (error != null) {
+                    this.terminate(error);
+                    return;
+                }
+                final long demand = this.requested.get();
+                long emitted = 0L;
+                while (emitted < demand && !this.cancelled) {
+                    final List<T> batch;
+                    try {
+                        batch = this.generator.generateBatch((int) Math.min(this.batchSize, demand - emitted));
+                    } catch (final RuntimeException exception) {
+                        this.terminate(exception);
+                        return;
+                    }
+                    for (int i = 0; i < batch.size(); i++) {
+                        final T generated = batch.get(i);
+                        if (generated == null) {
+                            this.discard(batch, i + 1);
+                            this.terminate(new IllegalStateException("Generator failed to produce a unique value"));
+                            return;
+                        }
+                        if (this.cancelled) {
+                            this.discard(batch, i);
+                            return;
+                        }
+                        this.subscriber.onNext(generated);
+                    }
+                    emitted += batch.size();
+                }
+                if (emitted != 0L && demand != Long.MAX_VALUE) {
+                    this.requested.addAndGet(-emitted);
+                }
+                missed = this.wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void discard(final @NotNull List<T> batch, final int from) {
+            for (int i = from; i < batch.size(); i++) {
+                final T value = batch.get(i);
+                if (value != null) {
+                    this.discarded.accept(value);
+                }
+            }
+        }
+
+        private void terminate(final @NotNull Throwable error) {
+            this.cancelled = true;
+            this.subscriber.onError(error);
+        }
+
+    }
+
+}
\ No newline at end of file
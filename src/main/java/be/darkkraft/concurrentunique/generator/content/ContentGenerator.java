@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.generator.content;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.function.Function;
+
+@FunctionalInterface
+public interface ContentGenerator<I, ID> extends Function<I, ID> {
+
+    long DEFAULT_SEED = 0L;
+
+    static @NotNull ContentGenerator<byte[], Hash128> bytes() {
+        return bytes(DEFAULT_SEED);
+    }
+
+    static @NotNull ContentGenerator<byte[], Hash128> bytes(final long seed) {
+        return data -> Murmur3.hash128(data, seed);
+    }
+
+    static @NotNull ContentGenerator<ByteBuffer, Hash128> buffers() {
+        return buffers(DEFAULT_SEED);
+    }
+
+    static @NotNull ContentGenerator<ByteBuffer, Hash128> buffers(final long seed) {
+        return buffer -> Murmur3.hash128(buffer, seed);
+    }
+
+    static @NotNull ContentGenerator<CharSequence, Hash128> chars() {
+        return chars(DEFAULT_SEED);
+    }
+
+    static @NotNull ContentGenerator<CharSequence, Hash128> chars(final long seed) {
+        return chars -> Murmur3.hash128(chars, seed);
+    }
+
+    @NotNull ID generate(final @NotNull I input);
+
+    @Override
+    default ID apply(final I input) {
+        return this.generate(input);
+    }
+
+    @Contract("_ -> new")
+    default <R> @NotNull ContentGenerator<I, R> map(final @NotNull Function<? super ID, ? extends R> function) {
+        Objects.requireNonNull(function, "function must not be null");
+        return input -> function.apply(this.generate(input));
+    }
+
+}
\ No newline at end of file
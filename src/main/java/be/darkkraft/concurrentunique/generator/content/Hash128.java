@@ -0,0 +1,61 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.generator.content;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+
+public record Hash128(long high, long low) {
+
+    public static final int ENCODED_LENGTH = 22;
+
+    private static final String CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+    private static final int RADIX = CHARS.length();
+    private static final int HALF_LENGTH = ENCODED_LENGTH / 2;
+
+    public @NotNull UUID toUUID() {
+        return new UUID((this.high & ~0xF000L) | 0x8000L, (this.low & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L);
+    }
+
+    public long toLong() {
+        return this.high;
+    }
+
+    public @NotNull String toEncoded() {
+        final char[] chars = new char[ENCODED_LENGTH];
+        encode(this.high, chars, 0);
+        encode(this.low, chars, HALF_LENGTH);
+        return new String(chars);
+    }
+
+    private static void encode(long value, final char @NotNull [] target, final int offset) {
+        for (int i = offset + HALF_LENGTH - 1; i >= offset; i--) {
+            target[i] = CHARS.charAt((int) Long.remainderUnsigned(value, RADIX));
+            value = Long.divideUnsigned(value, RADIX);
+        }
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,155 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.generator.content;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+public final class Murmur3 {
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+    private static final VarHandle ARRAY_LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle BUFFER_LONG = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private Murmur3() {
+    }
+
+    public static @NotNull Hash128 hash128(final byte @NotNull [] data, final long seed) {
+        return hash128(Objects.requireNonNull(data, "data must not be null"), 0, data.length, seed);
+    }
+
+    public static @NotNull Hash128 hash128(final byte @NotNull [] data, final int offset, final int length, final long seed) {
+        Objects.checkFromIndexSize(offset, length, Objects.requireNonNull(data, "data must not be null").length);
+        long h1 = seed;
+        long h2 = seed;
+        final int end = offset + length;
+        final int blocksEnd = offset + (length & ~15);
+        int index = offset;
+        for (; index < blocksEnd; index += 16) {
+            h1 ^= mixK1((long) ARRAY_LONG.get(data, index));
+            h1 = (Long.rotateLeft(h1, 27) + h2) * 5L + 0x52dce729L;
+            h2 ^= mixK2((long) ARRAY_LONG.get(data, index + 8));
+            h2 = (Long.rotateLeft(h2, 31) + h1) * 5L + 0x38495ab5L;
+        }
+        long k1 = 0L;
+        long k2 = 0L;
+        for (int i = end - 1; i >= index + 8; i--) {
+            k2 = (k2 << 8) | (data[i] & 0xFFL);
+        }
+        for (int i = Math.min(end, index + 8) - 1; i >= index; i--) {
+            k1 = (k1 << 8) | (data[i] & 0xFFL);
+        }
+        return finish(h1, h2, k1, k2, length);
+    }
+
+    public static @NotNull Hash128 hash128(final @NotNull ByteBuffer buffer, final long seed) {
+        Objects.requireNonNull(buffer, "buffer must not be null");
+        long h1 = seed;
+        long h2 = seed;
+        final int end = buffer.limit();
+        final int length = end - buffer.position();
+        final int blocksEnd = buffer.position() + (length & ~15);
+        int index = buffer.position();
+        for (; index < blocksEnd; index += 16) {
+            h1 ^= mixK1((long) BUFFER_LONG.get(buffer, index));
+            h1 = (Long.rotateLeft(h1, 27) + h2) * 5L + 0x52dce729L;
+            h2 ^= mixK2((long) BUFFER_LONG.get(buffer, index + 8));
+            h2 = (Long.rotateLeft(h2, 31) + h1) * 5L + 0x38495ab5L;
+        }
+        long k1 = 0L;
+        long k2 = 0L;
+        for (int i = end - 1; i >= index + 8; i--) {
+            k2 = (k2 << 8) | (buffer.get(i) & 0xFFL);
+        }
+        for (int i = Math.min(end, index + 8) - 1; i >= index; i--) {
+            k1 = (k1 << 8) | (buffer.get(i) & 0xFFL);
+        }
+        return finish(h1, h2, k1, k2, length);
+    }
+
+    public static @NotNull Hash128 hash128(final @NotNull CharSequence chars, final long seed) {
+        Objects.requireNonNull(chars, "chars must not be null");
+        long h1 = seed;
+        long h2 = seed;
+        final int length = chars.length();
+        final int blocksEnd = length & ~7;
+        int index = 0;
+        for (; index < blocksEnd; index += 8) {
+            h1 ^= mixK1(pack(chars, index, index + 4));
+            h1 = (Long.rotateLeft(h1, 27) + h2) * 5L + 0x52dce729L;
+            h2 ^= mixK2(pack(chars, index + 4, index + 8));
+            h2 = (Long.rotateLeft(h2, 31) + h1) * 5L + 0x38495ab5L;
+        }
+        final long k1 = pack(chars, index, Math.min(length, index + 4));
+        final long k2 = pack(chars, Math.min(length, index + 4), length);
+        return finish(h1, h2, k1, k2, (long) length << 1);
+    }
+
+    private static long pack(final @NotNull CharSequence chars, final int from, final int to) {
+        long packed = 0L;
+        for (int i = to - 1; i >= from; i--) {
+            packed = (packed << 16) | chars.charAt(i);
+        }
+        return packed;
+    }
+
+    private static @NotNull Hash128 finish(long h1, long h2, final long k1, final long k2, final long length) {
+        h1 ^= mixK1(k1);
+        h2 ^= mixK2(k2);
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix(h1);
+        h2 = fmix(h2);
+        h1 += h2;
+        h2 += h1;
+        return new Hash128(h1, h2);
+    }
+
+    private static long mixK1(final long k1) {
+        return Long.rotateLeft(k1 * C1, 31) * C2;
+    }
+
+    private static long mixK2(final long k2) {
+        return Long.rotateLeft(k2 * C2, 33) * C1;
+    }
+
+    private static long fmix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+}
\ No newline at end of file
@@ -24,11 +24,14 @@
 
 package be.darkkraft.concurrentunique.generator.number;
 
+import be.darkkraft.concurrentunique.BinaryGenerator;
 import be.darkkraft.concurrentunique.UniqueGenerator;
+import org.jetbrains.annotations.NotNull;
 
+import java.nio.ByteBuffer;
 import java.util.concurrent.atomic.AtomicInteger;
 
-public final class IntegerIncrementerGenerator implements UniqueGenerator<Integer> {
+public final class IntegerIncrementerGenerator implements UniqueGenerator<Integer>, BinaryGenerator {
 
     private final AtomicInteger counter = new AtomicInteger();
 
@@ -42,4 +45,30 @@ public final class IntegerIncrementerGenerator implements UniqueGenerator<Intege
         return this.counter.incrementAndGet();
     }
 
+    @Override
+    public int getEncodedSize() {
+        return Integer.BYTES;
+    }
+
+    @Override
+    public void writeTo(final @NotNull ByteBuffer buffer) {
+        this.checkRemaining(buffer, 1);
+        buffer.putInt(this.generateInt());
+    }
+
+    @Override
+    public int generateInto(final @NotNull ByteBuffer buffer, final int count) {
+        this.checkRemaining(buffer, count);
+        final int first = this.counter.getAndAdd(count) + 1;
+        for (int i = 0; i < count; i++) {
+            buffer.putInt(first + i);
+        }
+        return count * Integer.BYTES;
+    }
+
+    @Override
+    public @NotNull UniqueGenerator<Integer> split(final long expected) {
+        return new IntegerBlockGenerator(this.counter, IntegerBlockGenerator.blockSize(expected));
+    }
+
 }
\ No newline at end of file
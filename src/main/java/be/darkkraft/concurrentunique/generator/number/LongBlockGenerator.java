@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.generator.number;
+
+import be.darkkraft.concurrentunique.UniqueGenerator;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+final class LongBlockGenerator implements UniqueGenerator<Long> {
+
+    private static final int MAX_BLOCK_SIZE = 4096;
+
+    private final AtomicLong counter;
+    private final int blockSize;
+
+    private long next;
+    private int available;
+
+    LongBlockGenerator(final @NotNull AtomicLong counter, final int blockSize) {
+        this.counter = Objects.requireNonNull(counter, "counter must not be null");
+        this.blockSize = blockSize;
+    }
+
+    @Override
+    public Long generate() {
+        return this.generateLong();
+    }
+
+    public long generateLong() {
+        if (this.available == 0) {
+            this.next = this.counter.getAndAdd(this.blockSize) + 1;
+            this.available = this.blockSize;
+        }
+        this.available--;
+        return this.next++;
+    }
+
+    @Override
+    public @NotNull UniqueGenerator<Long> split(final long expected) {
+        return new LongBlockGenerator(this.counter, blockSize(expected));
+    }
+
+    static int blockSize(final long expected) {
+        return (int) Math.max(1L, Math.min(expected, MAX_BLOCK_SIZE));
+    }
+
+}
\ No newline at end of file
@@ -24,11 +24,14 @@
 
 package be.darkkraft.concurrentunique.generator.number;
 
+import be.darkkraft.concurrentunique.BinaryGenerator;
 import be.darkkraft.concurrentunique.UniqueGenerator;
+import org.jetbrains.annotations.NotNull;
 
+import java.nio.ByteBuffer;
 import java.util.concurrent.atomic.AtomicLong;
 
-public final class LongIncrementerGenerator implements UniqueGenerator<Long> {
+public final class LongIncrementerGenerator implements UniqueGenerator<Long>, BinaryGenerator {
 
     private final AtomicLong counter = new AtomicLong();
 
@@ -42,4 +45,30 @@ public final class LongIncrementerGenerator implements UniqueGenerator<Long> {
         return this.counter.incrementAndGet();
     }
 
+    @Override
+    public int getEncodedSize() {
+        return Long.BYTES;
+    }
+
+    @Override
+    public void writeTo(final @NotNull ByteBuffer buffer) {
+        this.checkRemaining(buffer, 1);
+        buffer.putLong(this.generateLong());
+    }
+
+    @Override
+    public int generateInto(final @NotNull ByteBuffer buffer, final int count) {
+        this.checkRemaining(buffer, count);
+        final long first = this.counter.getAndAdd(count) + 1L;
+        for (int i = 0; i < count; i++) {
+            buffer.putLong(first + i);
+        }
+        return count * Long.BYTES;
+    }
+
+    @Override
+    public @NotNull UniqueGenerator<Long> split(final long expected) {
+        return new LongBlockGenerator(this.counter, LongBlockGenerator.blockSize(expected));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,133 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.generator.number;
+
+import be.darkkraft.concurrentunique.UniqueGenerator;
+import be.darkkraft.concurrentunique.generator.string.EncodedStringGenerator;
+import be.darkkraft.concurrentunique.random.FeistelPermutation;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class PermutationGenerator implements UniqueGenerator<Long> {
+
+    private final FeistelPermutation permutation;
+    private final long start;
+    private final long end;
+    private final AtomicLong cursor;
+
+    public PermutationGenerator(final long domain, final long seed) {
+        this(new FeistelPermutation(domain, seed));
+    }
+
+    public PermutationGenerator(final @NotNull FeistelPermutation permutation) {
+        this(permutation, 0L, permutation.getDomain(), 0L);
+    }
+
+    private PermutationGenerator(final @NotNull FeistelPermutation permutation, final long start, final long end, final long cursor) {
+        this.permutation = Objects.requireNonNull(permutation, "permutation must not be null");
+        this.start = start;
+        this.end = end;
+        this.cursor = new AtomicLong(cursor);
+    }
+
+    @Override
+    @Deprecated
+    public Long generate() {
+        final long index = this.nextIndex();
+        return index < 0L ? null : this.permutation.permute(index);
+    }
+
+    public long generateLong() {
+        final long index = this.nextIndex();
+        if (index < 0L) {
+            throw new IllegalStateException("Permutation over [" + this.start + ", " + this.end + ") is exhausted");
+        }
+        return this.permutation.permute(index);
+    }
+
+    public long checkpoint() {
+        return this.cursor.get();
+    }
+
+    public void restore(final long checkpoint) {
+        if (checkpoint < this.start || checkpoint > this.end) {
+            throw new IllegalArgumentException("Checkpoint " + checkpoint + " is outside of [" + this.start + ", " + this.end + "]");
+        }
+        this.cursor.set(checkpoint);
+    }
+
+    @Contract("_, _ -> new")
+    public @NotNull PermutationGenerator shard(final int index, final int count) {
+        if (count <= 0 || index < 0 || index >= count) {
+            throw new IllegalArgumentException("Invalid shard " + index + " of " + count);
+        }
+        final long shardStart = this.boundary(index, count);
+        return new PermutationGenerator(this.permutation, shardStart, this.boundary(index + 1, count), shardStart);
+    }
+
+    @Contract("_ -> new")
+    public @NotNull EncodedStringGenerator toEncoded(final int length) {
+        if (EncodedStringGenerator.capacity(length) != this.permutation.getDomain()) {
+            throw new IllegalArgumentException("Encoded capacity of length " + length + " does not match domain " + this.permutation.getDomain());
+        }
+        return EncodedStringGenerator.build(length, this::generateLong);
+    }
+
+    public long remaining() {
+        return this.end - Math.min(this.cursor.get(), this.end);
+    }
+
+    public long getStart() {
+        return this.start;
+    }
+
+    public long getEnd() {
+        return this.end;
+    }
+
+    public long getDomain() {
+        return this.permutation.getDomain();
+    }
+
+    private long nextIndex() {
+        long index;
+        do {
+            index = this.cursor.get();
+            if (index >= this.end) {
+                return -1L;
+            }
+        } while (!this.cursor.compareAndSet(index, index + 1L));
+        return index;
+    }
+
+    private long boundary(final int index, final int count) {
+        final long size = this.end - this.start;
+        return this.start + (size / count) * index + Math.min(index, size % count);
+    }
+
+}
\ No newline at end of file
@@ -24,13 +24,21 @@
 
 package be.darkkraft.concurrentunique.generator.string;
 
+import be.darkkraft.concurrentunique.BinaryGenerator;
 import be.darkkraft.concurrentunique.UniqueGenerator;
+import be.darkkraft.concurrentunique.render.TextRenderer;
 import be.darkkraft.concurrentunique.supplier.RandomGeneratorSupplier;
 import org.jetbrains.annotations.NotNull;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.random.RandomGenerator;
 
-public interface AlphanumericGenerator extends UniqueGenerator<String> {
+public interface AlphanumericGenerator extends UniqueGenerator<String>, BinaryGenerator {
+
+    int BATCH_CHARS = 1 << 16;
 
     static AlphanumericGenerator build(final int length, final @NotNull RandomGeneratorSupplier.Type type) {
         return build(length, RandomGeneratorSupplier.build(type));
@@ -44,6 +52,52 @@ public interface AlphanumericGenerator extends UniqueGenerator<String> {
         return new AlphanumericGeneratorImpl(length, supplier);
     }
 
+    default @NotNull List<String> generateStrings(final int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must not be negative: " + count);
+        }
+        final int length = this.getLength();
+        final int chunk = Math.max(1, Math.min(count, BATCH_CHARS / length));
+        final int[] random = new int[chunk * length];
+        final byte[] chars = new byte[random.length];
+        final TextRenderer renderer = TextRenderer.get();
+        final List<String> strings = new ArrayList<>(count);
+        for (int done = 0; done < count; done += chunk) {
+            final int size = Math.min(chunk, count - done);
+            final RandomGenerator randomGenerator = this.getRandomGeneratorSupplier().getRandomGenerator();
+            for (int i = 0; i < size * length; i++) {
+                random[i] = randomGenerator.nextInt();
+            }
+            renderer.renderAlphanumeric(random, chars, size * length);
+            for (int i = 0; i < size; i++) {
+                strings.add(new String(chars, i * length, length, StandardCharsets.ISO_8859_1));
+            }
+        }
+        return strings;
+    }
+
+    @Override
+    default int getEncodedSize() {
+        return this.getLength();
+    }
+
+    @Override
+    default void writeTo(final @NotNull ByteBuffer buffer) {
+        this.generateInto(buffer, 1);
+    }
+
+    @Override
+    default int generateInto(final @NotNull ByteBuffer buffer, final int count) {
+        this.checkRemaining(buffer, count);
+        final String chars = AlphanumericGeneratorImpl.CHARS;
+        final RandomGenerator randomGenerator = this.getRandomGeneratorSupplier().getRandomGenerator();
+        final int size = count * this.getLength();
+        for (int i = 0; i < size; i++) {
+            buffer.put((byte) chars.charAt(randomGenerator.nextInt(chars.length())));
+        }
+        return size;
+    }
+
     int getLength();
 
     @NotNull RandomGeneratorSupplier getRandomGeneratorSupplier();
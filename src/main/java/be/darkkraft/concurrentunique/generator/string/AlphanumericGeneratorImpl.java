@@ -31,7 +31,7 @@ import java.util.Objects;
 
 record AlphanumericGeneratorImpl(int length, @NotNull RandomGeneratorSupplier randomGeneratorSupplier) implements AlphanumericGenerator {
 
-    private static final String CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+    static final String CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
 
     AlphanumericGeneratorImpl {
         if (length <= 0) {
@@ -49,6 +49,12 @@ record AlphanumericGeneratorImpl(int length, @NotNull RandomGeneratorSupplier ra
         return builder.toString();
     }
 
+    @Override
+    public @NotNull AlphanumericGenerator split(final long expected) {
+        final RandomGeneratorSupplier split = this.randomGeneratorSupplier.split();
+        return split == this.randomGeneratorSupplier ? this : new AlphanumericGeneratorImpl(this.length, split);
+    }
+
     @Override
     public int getLength() {
         return this.length;
@@ -0,0 +1,73 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.generator.string;
+
+import be.darkkraft.concurrentunique.UniqueGenerator;
+import be.darkkraft.concurrentunique.random.FeistelPermutation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.LongSupplier;
+
+public interface EncodedStringGenerator extends UniqueGenerator<String> {
+
+    static EncodedStringGenerator build(final int length, final @NotNull LongSupplier source) {
+        return new EncodedStringGeneratorImpl(length, source, null);
+    }
+
+    static EncodedStringGenerator build(final int length, final @NotNull LongSupplier source, final long seed) {
+        return new EncodedStringGeneratorImpl(length, source, new FeistelPermutation(capacity(length), seed));
+    }
+
+    static EncodedStringGenerator build(final int length,
+                                        final @NotNull LongSupplier source,
+                                        final @Nullable FeistelPermutation permutation) {
+        return new EncodedStringGeneratorImpl(length, source, permutation);
+    }
+
+    static long capacity(final int length) {
+        if (length <= 0) {
+            throw new IllegalArgumentException("String length must be positive: " + length);
+        }
+        final int radix = AlphanumericGeneratorImpl.CHARS.length();
+        long capacity = 1L;
+        for (int i = 0; i < length; i++) {
+            if (capacity > Long.MAX_VALUE / radix) {
+                return Long.MAX_VALUE;
+            }
+            capacity *= radix;
+        }
+        return capacity;
+    }
+
+    @NotNull String encode(final long value);
+
+    long decode(final @NotNull String encoded);
+
+    int getLength();
+
+    long getCapacity();
+
+}
\ No newline at end of file
@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.generator.string;
+
+import be.darkkraft.concurrentunique.random.FeistelPermutation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+final class EncodedStringGeneratorImpl implements EncodedStringGenerator {
+
+    private static final String CHARS = AlphanumericGeneratorImpl.CHARS;
+    private static final int RADIX = CHARS.length();
+
+    private final int length;
+    private final long capacity;
+    private final LongSupplier source;
+    private final FeistelPermutation permutation;
+
+    EncodedStringGeneratorImpl(final int length, final @NotNull LongSupplier source, final @Nullable FeistelPermutation permutation) {
+        this.capacity = EncodedStringGenerator.capacity(length);
+        this.length = length;
+        this.source = Objects.requireNonNull(source, "source must not be null");
+        if (permutation != null && permutation.getDomain() != this.capacity) {
+            throw new IllegalArgumentException("Permutation domain " + permutation.getDomain() +
+                    " does not match encoded capacity " + this.capacity);
+        }
+        this.permutation = permutation;
+    }
+
+    @Override
+    public String generate() {
+        return this.encode(this.source.getAsLong());
+    }
+
+    @Override
+    public @NotNull String encode(final long value) {
+        if (value < 0L || value >= this.capacity) {
+            throw new IllegalStateException("Value " + value + " exceeds the encoded key space of " + this.capacity);
+        }
+        long remaining = this.permutation != null ? this.permutation.permute(value) : value;
+        final char[] chars = new char[this.length];
+        for (int i = this.length - 1; i >= 0; i--) {
+            chars[i] = CHARS.charAt((int) (remaining % RADIX));
+            remaining /= RADIX;
+        }
+        return new String(chars);
+    }
+
+    @Override
+    public long decode(final @NotNull String encoded) {
+        Objects.requireNonNull(encoded, "encoded must not be null");
+        if (encoded.length() != this.length) {
+            throw new IllegalArgumentException("Encoded string must have a length of " + this.length + ": " + encoded);
+        }
+        long value = 0L;
+        for (int i = 0; i < this.length; i++) {
+            final int digit = CHARS.indexOf(encoded.charAt(i));
+            if (digit < 0) {
+                throw new IllegalArgumentException("Invalid character '" + encoded.charAt(i) + "' in " + encoded);
+            }
+            if (value > (Long.MAX_VALUE - digit) / RADIX) {
+                throw new IllegalArgumentException("Encoded value overflows: " + encoded);
+            }
+            value = value * RADIX + digit;
+        }
+        if (value >= this.capacity) {
+            throw new IllegalArgumentException("Encoded value is outside of the key space: " + encoded);
+        }
+        return this.permutation != null ? this.permutation.inverse(value) : value;
+    }
+
+    @Override
+    public int getLength() {
+        return this.length;
+    }
+
+    @Override
+    public long getCapacity() {
+        return this.capacity;
+    }
+
+}
\ No newline at end of file
@@ -24,14 +24,22 @@
 
 package be.darkkraft.concurrentunique.generator.uuid;
 
+import be.darkkraft.concurrentunique.BinaryGenerator;
 import be.darkkraft.concurrentunique.UniqueGenerator;
+import be.darkkraft.concurrentunique.render.TextRenderer;
 import be.darkkraft.concurrentunique.supplier.RandomGeneratorSupplier;
 import org.jetbrains.annotations.NotNull;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import java.util.random.RandomGenerator;
 
-public interface UUIDGenerator extends UniqueGenerator<UUID> {
+public interface UUIDGenerator extends UniqueGenerator<UUID>, BinaryGenerator {
+
+    int BATCH_SIZE = 4096;
 
     static UUIDGenerator build(final @NotNull RandomGeneratorSupplier.Type type) {
         return build(RandomGeneratorSupplier.build(type));
@@ -45,6 +53,62 @@ public interface UUIDGenerator extends UniqueGenerator<UUID> {
         return new UUIDGeneratorImpl(supplier);
     }
 
+    default @NotNull List<String> generateStrings(final int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must not be negative: " + count);
+        }
+        final int chunk = Math.max(1, Math.min(count, BATCH_SIZE));
+        final long[] bits = new long[chunk << 1];
+        final byte[] chars = new byte[chunk * TextRenderer.UUID_LENGTH];
+        final TextRenderer renderer = TextRenderer.get();
+        final List<String> strings = new ArrayList<>(count);
+        for (int done = 0; done < count; done += chunk) {
+            final int size = Math.min(chunk, count - done);
+            final RandomGenerator randomGenerator = this.getRandomGeneratorSupplier().getRandomGenerator();
+            for (int i = 0; i < size; i++) {
+                bits[i << 1] = mostSignificantBits(randomGenerator.nextLong());
+                bits[(i << 1) + 1] = leastSignificantBits(randomGenerator.nextLong());
+            }
+            renderer.renderUuids(bits, chars, size);
+            for (int i = 0; i < size; i++) {
+                strings.add(new String(chars, i * TextRenderer.UUID_LENGTH, TextRenderer.UUID_LENGTH, StandardCharsets.ISO_8859_1));
+            }
+        }
+        return strings;
+    }
+
+    @Override
+    default int getEncodedSize() {
+        return Long.BYTES << 1;
+    }
+
+    @Override
+    default void writeTo(final @NotNull ByteBuffer buffer) {
+        this.checkRemaining(buffer, 1);
+        final RandomGenerator randomGenerator = this.getRandomGeneratorSupplier().getRandomGenerator();
+        buffer.putLong(mostSignificantBits(randomGenerator.nextLong()));
+        buffer.putLong(leastSignificantBits(randomGenerator.nextLong()));
+    }
+
+    @Override
+    default int generateInto(final @NotNull ByteBuffer buffer, final int count) {
+        this.checkRemaining(buffer, count);
+        final RandomGenerator randomGenerator = this.getRandomGeneratorSupplier().getRandomGenerator();
+        for (int i = 0; i < count; i++) {
+            buffer.putLong(mostSignificantBits(randomGenerator.nextLong()));
+            buffer.putLong(leastSignificantBits(randomGenerator.nextLong()));
+        }
+        return count * this.getEncodedSize();
+    }
+
     @NotNull RandomGeneratorSupplier getRandomGeneratorSupplier();
 
+    private static long mostSignificantBits(final long random) {
+        return (random & 0xFFFFFFFFFFFF0FFFL) | 0x0000000000004000L;
+    }
+
+    private static long leastSignificantBits(final long random) {
+        return (random & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+    }
+
 }
\ No newline at end of file
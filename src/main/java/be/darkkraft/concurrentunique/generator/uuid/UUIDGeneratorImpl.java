@@ -56,6 +56,12 @@ record UUIDGeneratorImpl(@NotNull RandomGeneratorSupplier randomGeneratorSupplie
         return new UUID(msb, lsb);
     }
 
+    @Override
+    public @NotNull UUIDGenerator split(final long expected) {
+        final RandomGeneratorSupplier split = this.randomGeneratorSupplier.split();
+        return split == this.randomGeneratorSupplier ? this : new UUIDGeneratorImpl(split);
+    }
+
     @Override
     public @NotNull RandomGeneratorSupplier getRandomGeneratorSupplier() {
         return this.randomGeneratorSupplier;
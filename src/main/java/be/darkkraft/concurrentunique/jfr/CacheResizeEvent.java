@@ -0,0 +1,65 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("be.darkkraft.concurrentunique.CacheResize")
+@Label("Cache Resize")
+@Description("Growth of the key table of a full cache generator")
+@Category("Concurrent Unique")
+@Enabled(false)
+@StackTrace(false)
+public final class CacheResizeEvent extends Event {
+
+    @Label("Previous Capacity")
+    int previousCapacity;
+
+    @Label("Capacity")
+    int capacity;
+
+    @Label("Size")
+    int size;
+
+    public static void emit(final int previousCapacity, final int capacity, final int size) {
+        new CacheResizeEvent().end(previousCapacity, capacity, size);
+    }
+
+    public void end(final int previousCapacity, final int capacity, final int size) {
+        if (this.shouldCommit()) {
+            this.previousCapacity = previousCapacity;
+            this.capacity = capacity;
+            this.size = size;
+            this.commit();
+        }
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+@Name("be.darkkraft.concurrentunique.Generate")
+@Label("Verified Generate")
+@Description("Retry loop of a verified generator")
+@Category("Concurrent Unique")
+@Enabled(false)
+@StackTrace(false)
+public final class GenerateEvent extends Event {
+
+    @Label("Generator")
+    Class<?> generator;
+
+    @Label("Retries")
+    int retries;
+
+    @Label("Exhausted")
+    boolean exhausted;
+
+    public static @Nullable GenerateEvent start() {
+        final GenerateEvent event = new GenerateEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    public static void finish(final @Nullable GenerateEvent event, final @NotNull Object generator, final int retries, final boolean exhausted) {
+        if (event != null) {
+            event.end(generator, retries, exhausted);
+        }
+    }
+
+    public void end(final @NotNull Object generator, final int retries, final boolean exhausted) {
+        if (this.shouldCommit()) {
+            this.generator = generator.getClass();
+            this.retries = retries;
+            this.exhausted = exhausted;
+            this.commit();
+        }
+    }
+
+}
\ No newline at end of file
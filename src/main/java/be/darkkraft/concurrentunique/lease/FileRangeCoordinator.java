@@ -0,0 +1,88 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.lease;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class FileRangeCoordinator implements RangeCoordinator {
+
+    private static final Map<Path, Object> LOCKS = new ConcurrentHashMap<>();
+
+    private final Path path;
+    private final Object lock;
+
+    FileRangeCoordinator(final @NotNull Path path) {
+        this.path = Objects.requireNonNull(path, "path must not be null").toAbsolutePath().normalize();
+        this.lock = LOCKS.computeIfAbsent(this.path, ignored -> new Object());
+    }
+
+    @Override
+    public @NotNull LeasedRange lease(final int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Lease size must be positive: " + size);
+        }
+        synchronized (this.lock) {
+            try (final FileChannel channel = FileChannel.open(this.path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                final FileLock fileLock = channel.lock();
+                try {
+                    final ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+                    int read = 0;
+                    while (read < Long.BYTES) {
+                        final int count = channel.read(buffer, read);
+                        if (count < 0) {
+                            break;
+                        }
+                        read += count;
+                    }
+                    if (read != 0 && read != Long.BYTES) {
+                        throw new IOException("Lease file " + this.path + " is corrupted");
+                    }
+                    final long start = read == 0 ? 0L : buffer.getLong(0);
+                    final long end = Math.addExact(start, size);
+                    channel.write(buffer.clear().putLong(0, end), 0L);
+                    channel.force(false);
+                    return new LeasedRange(start, end);
+                } finally {
+                    fileLock.release();
+                }
+            } catch (final IOException exception) {
+                throw new UncheckedIOException("Failed to lease a range from " + this.path, exception);
+            }
+        }
+    }
+
+}
\ No newline at end of file
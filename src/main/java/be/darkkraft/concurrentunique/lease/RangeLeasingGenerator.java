@@ -0,0 +1,135 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.lease;
+
+import be.darkkraft.concurrentunique.UniqueGenerator;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+public final class RangeLeasingGenerator implements UniqueGenerator<Long> {
+
+    private final RangeCoordinator coordinator;
+    private final int blockSize;
+    private final int prefetchThreshold;
+    private final Executor executor;
+    private final AtomicReference<CompletableFuture<LeasedRange>> prefetch = new AtomicReference<>();
+
+    private volatile Block block;
+
+    public RangeLeasingGenerator(final @NotNull RangeCoordinator coordinator, final int blockSize) {
+        this(coordinator, blockSize, ForkJoinPool.commonPool());
+    }
+
+    public RangeLeasingGenerator(final @NotNull RangeCoordinator coordinator, final int blockSize, final @NotNull Executor executor) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+        }
+        this.coordinator = Objects.requireNonNull(coordinator, "coordinator must not be null");
+        this.executor = Objects.requireNonNull(executor, "executor must not be null");
+        this.blockSize = blockSize;
+        this.prefetchThreshold = Math.max(1, blockSize >>> 2);
+        this.block = new Block(new LeasedRange(0L, 0L));
+    }
+
+    @Override
+    @Deprecated
+    public Long generate() {
+        return this.generateLong();
+    }
+
+    public long generateLong() {
+        while (true) {
+            final Block current = this.block;
+            final long value = current.next.getAndIncrement();
+            if (value < current.end) {
+                if (current.end - value == this.prefetchThreshold) {
+                    this.prefetch();
+                }
+                return value;
+            }
+            this.advance(current);
+        }
+    }
+
+    public int getBlockSize() {
+        return this.blockSize;
+    }
+
+    private void prefetch() {
+        if (this.prefetch.get() == null) {
+            final CompletableFuture<LeasedRange> future = new CompletableFuture<>();
+            if (this.prefetch.compareAndSet(null, future)) {
+                try {
+                    this.executor.execute(() -> {
+                        try {
+                            future.complete(this.coordinator.lease(this.blockSize));
+                        } catch (final Throwable throwable) {
+                            future.completeExceptionally(throwable);
+                        }
+                    });
+                } catch (final RejectedExecutionException exception) {
+                    this.prefetch.compareAndSet(future, null);
+                    future.completeExceptionally(exception);
+                }
+            }
+        }
+    }
+
+    private synchronized void advance(final @NotNull Block exhausted) {
+        if (this.block != exhausted) {
+            return;
+        }
+        final CompletableFuture<LeasedRange> prefetched = this.prefetch.getAndSet(null);
+        LeasedRange range = null;
+        if (prefetched != null) {
+            try {
+                range = prefetched.join();
+            } catch (final CompletionException ignored) {
+            }
+        }
+        this.block = new Block(range != null ? range : this.coordinator.lease(this.blockSize));
+    }
+
+    private static final class Block {
+
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(final @NotNull LeasedRange range) {
+            this.next = new AtomicLong(range.start());
+            this.end = range.end();
+        }
+
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+record CompositeMetricsSink(@NotNull MetricsSink first, @NotNull MetricsSink second) implements MetricsSink {
+
+    CompositeMetricsSink {
+        Objects.requireNonNull(first, "first must not be null");
+        Objects.requireNonNull(second, "second must not be null");
+    }
+
+    @Override
+    public void onGenerate(final long nanos) {
+        this.first.onGenerate(nanos);
+        this.second.onGenerate(nanos);
+    }
+
+    @Override
+    public void onRetry() {
+        this.first.onRetry();
+        this.second.onRetry();
+    }
+
+    @Override
+    public void onCollision() {
+        this.first.onCollision();
+        this.second.onCollision();
+    }
+
+    @Override
+    public void onExhausted() {
+        this.first.onExhausted();
+        this.second.onExhausted();
+    }
+
+    @Override
+    public void onLockWait(final long nanos) {
+        this.first.onLockWait(nanos);
+        this.second.onLockWait(nanos);
+    }
+
+    @Override
+    public void onCacheSize(final int size) {
+        this.first.onCacheSize(size);
+        this.second.onCacheSize(size);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,179 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class GeneratorMetrics implements MetricsSink, GeneratorMetricsMXBean {
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LatencyHistogram lockWait = new LatencyHistogram();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder collisions = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+
+    private volatile int cacheSize;
+
+    @Override
+    public void onGenerate(final long nanos) {
+        this.latency.record(nanos);
+    }
+
+    @Override
+    public void onRetry() {
+        this.retries.increment();
+    }
+
+    @Override
+    public void onCollision() {
+        this.collisions.increment();
+    }
+
+    @Override
+    public void onExhausted() {
+        this.exhausted.increment();
+    }
+
+    @Override
+    public void onLockWait(final long nanos) {
+        this.lockWait.record(nanos);
+    }
+
+    @Override
+    public void onCacheSize(final int size) {
+        this.cacheSize = size;
+    }
+
+    public @NotNull ObjectName register(final @NotNull String name) {
+        Objects.requireNonNull(name, "name must not be null");
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName objectName = new ObjectName("be.darkkraft.concurrentunique:type=GeneratorMetrics,name=" + ObjectName.quote(name));
+            server.registerMBean(this, objectName);
+            return objectName;
+        } catch (final JMException exception) {
+            throw new IllegalStateException("Failed to register generator metrics " + name, exception);
+        }
+    }
+
+    public void unregister(final @NotNull ObjectName objectName) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        } catch (final JMException exception) {
+            throw new IllegalStateException("Failed to unregister generator metrics " + objectName, exception);
+        }
+    }
+
+    public @NotNull LatencyHistogram getLatency() {
+        return this.latency;
+    }
+
+    public @NotNull LatencyHistogram getLockWait() {
+        return this.lockWait;
+    }
+
+    @Override
+    public long getGenerateCount() {
+        return this.latency.getCount();
+    }
+
+    @Override
+    public long getRetryCount() {
+        return this.retries.sum();
+    }
+
+    @Override
+    public long getCollisionCount() {
+        return this.collisions.sum();
+    }
+
+    @Override
+    public long getExhaustedCount() {
+        return this.exhausted.sum();
+    }
+
+    @Override
+    public double getCollisionRate() {
+        final long attempts = this.getGenerateCount() + this.getRetryCount();
+        return attempts == 0L ? 0.0D : (double) this.getCollisionCount() / attempts;
+    }
+
+    @Override
+    public double getLatencyMeanNanos() {
+        return this.latency.getMean();
+    }
+
+    @Override
+    public long getLatencyP50Nanos() {
+        return this.latency.getValueAtPercentile(50.0D);
+    }
+
+    @Override
+    public long getLatencyP99Nanos() {
+        return this.latency.getValueAtPercentile(99.0D);
+    }
+
+    @Override
+    public long getLatencyP999Nanos() {
+        return this.latency.getValueAtPercentile(99.9D);
+    }
+
+    @Override
+    public long getLatencyMaxNanos() {
+        return this.latency.getMax();
+    }
+
+    @Override
+    public long getLockWaitTotalNanos() {
+        return this.lockWait.getTotal();
+    }
+
+    @Override
+    public long getLockWaitP99Nanos() {
+        return this.lockWait.getValueAtPercentile(99.0D);
+    }
+
+    @Override
+    public int getCacheSize() {
+        return this.cacheSize;
+    }
+
+    @Override
+    public void reset() {
+        this.latency.reset();
+        this.lockWait.reset();
+        this.retries.reset();
+        this.collisions.reset();
+        this.exhausted.reset();
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+public interface MetricsSink {
+
+    static @NotNull MetricsSink noop() {
+        return NoopMetricsSink.INSTANCE;
+    }
+
+    static @NotNull MetricsSink combine(final @NotNull MetricsSink first, final @NotNull MetricsSink second) {
+        Objects.requireNonNull(first, "first must not be null");
+        Objects.requireNonNull(second, "second must not be null");
+        if (second == NoopMetricsSink.INSTANCE || second == first) {
+            return first;
+        }
+        if (first == NoopMetricsSink.INSTANCE) {
+            return second;
+        }
+        return new CompositeMetricsSink(first, second);
+    }
+
+    default void onGenerate(final long nanos) {
+    }
+
+    default void onRetry() {
+    }
+
+    default void onCollision() {
+    }
+
+    default void onExhausted() {
+    }
+
+    default void onLockWait(final long nanos) {
+    }
+
+    default void onCacheSize(final int size) {
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.random;
+
+public final class FeistelPermutation {
+
+    private static final int ROUNDS = 4;
+
+    private final long domain;
+    private final int halfBits;
+    private final long halfMask;
+    private final long[] keys;
+
+    public FeistelPermutation(final long domain, final long seed) {
+        if (domain <= 0L) {
+            throw new IllegalArgumentException("Domain must be positive: " + domain);
+        }
+        this.domain = domain;
+        final int bits = Math.max(2, Long.SIZE - Long.numberOfLeadingZeros(domain - 1L));
+        this.halfBits = (bits + 1) >>> 1;
+        this.halfMask = (1L << this.halfBits) - 1L;
+        this.keys = new long[ROUNDS];
+        final SequentialSeedRandom random = new SequentialSeedRandom(seed);
+        for (int i = 0; i < ROUNDS; i++) {
+            this.keys[i] = random.nextLong();
+        }
+    }
+
+    public long permute(final long value) {
+        this.checkValue(value);
+        long result = value;
+        do {
+            result = this.encrypt(result);
+        } while (Long.compareUnsigned(result, this.domain) >= 0);
+        return result;
+    }
+
+    public long inverse(final long value) {
+        this.checkValue(value);
+        long result = value;
+        do {
+            result = this.decrypt(result);
+        } while (Long.compareUnsigned(result, this.domain) >= 0);
+        return result;
+    }
+
+    public long getDomain() {
+        return this.domain;
+    }
+
+    private long encrypt(final long value) {
+        long left = (value >>> this.halfBits) & this.halfMask;
+        long right = value & this.halfMask;
+        for (int i = 0; i < ROUNDS; i++) {
+            final long next = left ^ (round(right, this.keys[i]) & this.halfMask);
+            left = right;
+            right = next;
+        }
+        return (left << this.halfBits) | right;
+    }
+
+    private long decrypt(final long value) {
+        long left = (value >>> this.halfBits) & this.halfMask;
+        long right = value & this.halfMask;
+        for (int i = ROUNDS - 1; i >= 0; i--) {
+            final long previous = right ^ (round(left, this.keys[i]) & this.halfMask);
+            right = left;
+            left = previous;
+        }
+        return (left << this.halfBits) | right;
+    }
+
+    private void checkValue(final long value) {
+        if (value < 0L || value >= this.domain) {
+            throw new IllegalArgumentException("Value " + value + " is outside of domain [0, " + this.domain + ")");
+        }
+    }
+
+    private static long round(final long value, final long key) {
+        long z = value ^ key;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+}
\ No newline at end of file
@@ -43,6 +43,10 @@ public final class SequentialSeedRandom implements RandomGenerator {
         return mix64(this.seed += 0x9e3779b97f4a7c15L);
     }
 
+    public SequentialSeedRandom split() {
+        return new SequentialSeedRandom(this.nextLong());
+    }
+
     public int randomInt(final int min, final int max) {
         final int bound = (max + 1) - min;
         int r = this.next(31);
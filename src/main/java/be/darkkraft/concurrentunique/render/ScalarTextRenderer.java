@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.render;
+
+import org.jetbrains.annotations.NotNull;
+
+final class ScalarTextRenderer implements TextRenderer {
+
+    static final ScalarTextRenderer INSTANCE = new ScalarTextRenderer();
+
+    static final int ALPHABET_SIZE = 62;
+    static final byte[] HEX = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'};
+
+    private ScalarTextRenderer() {
+    }
+
+    @Override
+    public void renderAlphanumeric(final int @NotNull [] random, final byte @NotNull [] target, final int count) {
+        for (int i = 0; i < count; i++) {
+            target[i] = alphanumeric(random[i]);
+        }
+    }
+
+    @Override
+    public void renderUuids(final long @NotNull [] bits, final byte @NotNull [] target, final int count) {
+        for (int i = 0; i < count; i++) {
+            final int offset = i * UUID_LENGTH;
+            final long msb = bits[i << 1];
+            final long lsb = bits[(i << 1) + 1];
+            hex(msb >>> 32, target, offset, 8);
+            target[offset + 8] = '-';
+            hex(msb >>> 16, target, offset + 9, 4);
+            target[offset + 13] = '-';
+            hex(msb, target, offset + 14, 4);
+            target[offset + 18] = '-';
+            hex(lsb >>> 48, target, offset + 19, 4);
+            target[offset + 23] = '-';
+            hex(lsb, target, offset + 24, 12);
+        }
+    }
+
+    @Override
+    public @NotNull String getName() {
+        return "scalar";
+    }
+
+    static byte alphanumeric(final int random) {
+        final int index = ((random >>> 8) * ALPHABET_SIZE) >>> 24;
+        if (index < 26) {
+            return (byte) ('A' + index);
+        }
+        if (index < 52) {
+            return (byte) ('a' + index - 26);
+        }
+        return (byte) ('0' + index - 52);
+    }
+
+    private static void hex(long value, final byte @NotNull [] target, final int offset, final int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            target[i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.render;
+
+import org.jetbrains.annotations.NotNull;
+
+final class TextRenderers {
+
+    static final String VECTOR_MODULE = "jdk.incubator.vector";
+    static final String VECTOR_RENDERER = "be.darkkraft.concurrentunique.render.VectorTextRenderer";
+
+    static final TextRenderer PREFERRED = load();
+
+    private TextRenderers() {
+    }
+
+    private static @NotNull TextRenderer load() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return ScalarTextRenderer.INSTANCE;
+        }
+        try {
+            return (TextRenderer) Class.forName(VECTOR_RENDERER).getDeclaredConstructor().newInstance();
+        } catch (final ReflectiveOperationException | LinkageError ignored) {
+            return ScalarTextRenderer.INSTANCE;
+        }
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.supplier;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.DrbgParameters;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.random.RandomGenerator;
+
+final class BufferedSecureRandom implements RandomGenerator {
+
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.nativeOrder());
+    private static final VarHandle INTS = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.nativeOrder());
+    private static final int SECURITY_STRENGTH = 256;
+
+    private final byte[] buffer;
+    private final long reseedInterval;
+
+    private SecureRandom random;
+    private int position;
+    private long sinceReseed;
+
+    BufferedSecureRandom(final int bufferSize, final long reseedInterval) {
+        this.buffer = new byte[bufferSize];
+        this.reseedInterval = reseedInterval;
+        this.position = bufferSize;
+    }
+
+    @Override
+    public long nextLong() {
+        if (this.position > this.buffer.length - Long.BYTES) {
+            this.refill();
+        }
+        final long value = (long) LONGS.get(this.buffer, this.position);
+        this.position += Long.BYTES;
+        return value;
+    }
+
+    @Override
+    public int nextInt() {
+        if (this.position > this.buffer.length - Integer.BYTES) {
+            this.refill();
+        }
+        final int value = (int) INTS.get(this.buffer, this.position);
+        this.position += Integer.BYTES;
+        return value;
+    }
+
+    @Override
+    public void nextBytes(final byte @NotNull [] bytes) {
+        int offset = 0;
+        while (offset < bytes.length) {
+            if (this.position == this.buffer.length) {
+                this.refill();
+            }
+            final int length = Math.min(bytes.length - offset, this.buffer.length - this.position);
+            System.arraycopy(this.buffer, this.position, bytes, offset, length);
+            this.position += length;
+            offset += length;
+        }
+    }
+
+    private void refill() {
+        if (this.random == null) {
+            this.random = newDrbg();
+        } else if (this.sinceReseed >= this.reseedInterval) {
+            this.random.reseed();
+            this.sinceReseed = 0L;
+        }
+        this.random.nextBytes(this.buffer);
+        this.sinceReseed += this.buffer.length;
+        this.position = 0;
+    }
+
+    private static @NotNull SecureRandom newDrbg() {
+        final byte[] personalization = Thread.currentThread().getName().getBytes(StandardCharsets.UTF_8);
+        try {
+            return SecureRandom.getInstance("DRBG",
+                    DrbgParameters.instantiation(SECURITY_STRENGTH, DrbgParameters.Capability.RESEED_ONLY, personalization));
+        } catch (final NoSuchAlgorithmException ignored) {
+            return new SecureRandom();
+        }
+    }
+
+}
\ No newline at end of file
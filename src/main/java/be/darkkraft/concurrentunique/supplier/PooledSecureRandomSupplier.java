@@ -0,0 +1,57 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.supplier;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.random.RandomGenerator;
+
+public final class PooledSecureRandomSupplier implements RandomGeneratorSupplier {
+
+    public static final int DEFAULT_BUFFER_SIZE = 4096;
+    public static final long DEFAULT_RESEED_INTERVAL = 1L << 26;
+
+    private final ThreadLocal<BufferedSecureRandom> generators;
+
+    public PooledSecureRandomSupplier() {
+        this(DEFAULT_BUFFER_SIZE, DEFAULT_RESEED_INTERVAL);
+    }
+
+    public PooledSecureRandomSupplier(final int bufferSize, final long reseedInterval) {
+        if (bufferSize < Long.BYTES) {
+            throw new IllegalArgumentException("Buffer size must be at least " + Long.BYTES + ": " + bufferSize);
+        }
+        if (reseedInterval <= 0L) {
+            throw new IllegalArgumentException("Reseed interval must be positive: " + reseedInterval);
+        }
+        this.generators = ThreadLocal.withInitial(() -> new BufferedSecureRandom(bufferSize, reseedInterval));
+    }
+
+    @Override
+    public @NotNull RandomGenerator getRandomGenerator() {
+        return this.generators.get();
+    }
+
+}
\ No newline at end of file
@@ -48,10 +48,22 @@ public interface RandomGeneratorSupplier {
 
     @NotNull RandomGenerator getRandomGenerator();
 
+    default @NotNull RandomGeneratorSupplier split() {
+        final RandomGenerator randomGenerator = this.getRandomGenerator();
+        if (randomGenerator instanceof RandomGenerator.SplittableGenerator splittable) {
+            return wrap(splittable.split());
+        }
+        if (randomGenerator instanceof SequentialSeedRandom sequential) {
+            return wrap(sequential.split());
+        }
+        return this;
+    }
+
     enum Type {
 
         FAST_SEQUENTIAL(() -> wrap(new SequentialSeedRandom())),
         SECURE(() -> wrap(new SecureRandom())),
+        SECURE_POOLED(PooledSecureRandomSupplier::new),
         THREAD_LOCAL(() -> wrap(ThreadLocalRandom.current()));
 
         private final Supplier<RandomGeneratorSupplier> supplier;
@@ -29,6 +29,8 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 public abstract class AbstractVerifiedGenerator<T> implements VerifiedGenerator<T> {
 
@@ -51,4 +53,11 @@ public abstract class AbstractVerifiedGenerator<T> implements VerifiedGenerator<
         return this.maxRetry;
     }
 
+    @Override
+    public <R> @NotNull VerifiedGenerator<R> map(final @NotNull Function<T, R> function,
+                                                 final int maxRetry,
+                                                 final @NotNull Predicate<R> existPredicate) {
+        return VerifiedGenerator.wrap(this.generator.map(function), maxRetry, existPredicate);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,239 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.verified;
+
+import be.darkkraft.concurrentunique.UniqueGenerator;
+import be.darkkraft.concurrentunique.generator.string.AlphanumericGenerator;
+import be.darkkraft.concurrentunique.generator.string.EncodedStringGenerator;
+import be.darkkraft.concurrentunique.metrics.MetricsSink;
+import be.darkkraft.concurrentunique.supplier.RandomGeneratorSupplier;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+public final class AdaptiveVerifiedGenerator<T> implements VerifiedGenerator<T> {
+
+    public static final double DEFAULT_ESCALATION_THRESHOLD = 0.1D;
+
+    private static final System.Logger LOGGER = System.getLogger(AdaptiveVerifiedGenerator.class.getName());
+    private static final double SMOOTHING = 0.05D;
+
+    private final List<Level<T>> levels;
+    private final int maxRetry;
+    private final double escalationThreshold;
+    private final Predicate<T> existPredicate;
+    private final EscalationListener listener;
+
+    private int level;
+    private double collisionRate;
+    private long issued;
+    private boolean warned;
+
+    public AdaptiveVerifiedGenerator(final @NotNull List<Level<T>> levels, final int maxRetry, final @NotNull Predicate<T> existPredicate) {
+        this(levels, maxRetry, DEFAULT_ESCALATION_THRESHOLD, existPredicate, EscalationListener.logging());
+    }
+
+    public AdaptiveVerifiedGenerator(final @NotNull List<Level<T>> levels,
+                                     final int maxRetry,
+                                     final double escalationThreshold,
+                                     final @NotNull Predicate<T> existPredicate,
+                                     final @NotNull EscalationListener listener) {
+        Objects.requireNonNull(levels, "levels must not be null");
+        if (levels.isEmpty()) {
+            throw new IllegalArgumentException("At least one level is required");
+        }
+        if (escalationThreshold <= 0.0D || escalationThreshold >= 1.0D) {
+            throw new IllegalArgumentException("Escalation threshold must be between 0 and 1: " + escalationThreshold);
+        }
+        this.levels = List.copyOf(levels);
+        this.maxRetry = maxRetry;
+        this.escalationThreshold = escalationThreshold;
+        this.existPredicate = Objects.requireNonNull(existPredicate, "Predicate cannot be null");
+        this.listener = Objects.requireNonNull(listener, "listener must not be null");
+    }
+
+    @Contract("_, _, _, _, _ -> new")
+    public static @NotNull AdaptiveVerifiedGenerator<String> alphanumeric(final int minLength,
+                                                                         final int maxLength,
+                                                                         final @NotNull RandomGeneratorSupplier supplier,
+                                                                         final int maxRetry,
+                                                                         final @NotNull Predicate<String> existPredicate) {
+        if (maxLength < minLength) {
+            throw new IllegalArgumentException("Maximum length must not be lower than minimum length: " + maxLength);
+        }
+        final List<Level<String>> levels = new ArrayList<>(maxLength - minLength + 1);
+        for (int length = minLength; length <= maxLength; length++) {
+            levels.add(new Level<>(AlphanumericGenerator.build(length, supplier), EncodedStringGenerator.capacity(length)));
+        }
+        return new AdaptiveVerifiedGenerator<>(levels, maxRetry, existPredicate);
+    }
+
+    @Override
+    public @Nullable T generate(final int maxRetry, final @NotNull MetricsSink sink) {
+        final MetricsSink tracking = new CollisionRateSink(sink);
+        T generated = VerifiedGenerator.super.generate(maxRetry, tracking);
+        while (generated == null && this.escalate()) {
+            generated = VerifiedGenerator.super.generate(maxRetry, tracking);
+        }
+        if (generated != null) {
+            this.record(false);
+            this.issued++;
+            this.checkCollisionRate();
+        }
+        return generated;
+    }
+
+    @Override
+    public @Nullable T regenerate() {
+        return this.levels.get(this.level).generator().generate();
+    }
+
+    @Override
+    public boolean isAlreadyExists(final @NotNull T generated) {
+        return this.existPredicate.test(generated);
+    }
+
+    @Override
+    public int getMaxRetry() {
+        return this.maxRetry;
+    }
+
+    public int getLevel() {
+        return this.level;
+    }
+
+    public int getLevelCount() {
+        return this.levels.size();
+    }
+
+    public double getCollisionRate() {
+        return this.collisionRate;
+    }
+
+    public double getOccupancyEstimate() {
+        final long keySpace = this.levels.get(this.level).keySpace();
+        return keySpace > 0L ? Math.min(1.0D, (double) this.issued / keySpace) : this.collisionRate;
+    }
+
+    private void record(final boolean collided) {
+        this.collisionRate += SMOOTHING * ((collided ? 1.0D : 0.0D) - this.collisionRate);
+    }
+
+    private void checkCollisionRate() {
+        if (this.collisionRate >= this.escalationThreshold) {
+            this.escalate();
+        } else if (!this.warned && this.collisionRate >= this.escalationThreshold / 2.0D) {
+            this.warned = true;
+            LOGGER.log(System.Logger.Level.WARNING, "Collision rate of level {0} reached {1}", this.level, this.collisionRate);
+        }
+    }
+
+    private boolean escalate() {
+        final int previous = this.level;
+        if (previous + 1 >= this.levels.size()) {
+            if (!this.warned) {
+                this.warned = true;
+                LOGGER.log(System.Logger.Level.WARNING, "Collision rate of last level reached {0}, no larger key space available",
+                        this.collisionRate);
+            }
+            return false;
+        }
+        final double rate = this.collisionRate;
+        this.level = previous + 1;
+        this.collisionRate = 0.0D;
+        this.issued = 0L;
+        this.warned = false;
+        this.listener.onEscalation(previous, previous + 1, rate);
+        return true;
+    }
+
+    private final class CollisionRateSink implements MetricsSink {
+
+        private final MetricsSink delegate;
+
+        private CollisionRateSink(final @NotNull MetricsSink delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void onGenerate(final long nanos) {
+            this.delegate.onGenerate(nanos);
+        }
+
+        @Override
+        public void onRetry() {
+            AdaptiveVerifiedGenerator.this.record(true);
+            this.delegate.onRetry();
+        }
+
+        @Override
+        public void onCollision() {
+            this.delegate.onCollision();
+        }
+
+        @Override
+        public void onExhausted() {
+            AdaptiveVerifiedGenerator.this.record(true);
+            this.delegate.onExhausted();
+        }
+
+        @Override
+        public void onLockWait(final long nanos) {
+            this.delegate.onLockWait(nanos);
+        }
+
+        @Override
+        public void onCacheSize(final int size) {
+            this.delegate.onCacheSize(size);
+        }
+
+    }
+
+    public record Level<T>(@NotNull UniqueGenerator<T> generator, long keySpace) {
+
+        public Level {
+            Objects.requireNonNull(generator, "generator must not be null");
+        }
+
+    }
+
+    @FunctionalInterface
+    public interface EscalationListener {
+
+        static @NotNull EscalationListener logging() {
+            return (previousLevel, newLevel, collisionRate) -> LOGGER.log(System.Logger.Level.WARNING,
+                    "Escalating from level {0} to level {1} at a collision rate of {2}", previousLevel, newLevel, collisionRate);
+        }
+
+        void onEscalation(final int previousLevel, final int newLevel, final double collisionRate);
+
+    }
+
+}
\ No newline at end of file
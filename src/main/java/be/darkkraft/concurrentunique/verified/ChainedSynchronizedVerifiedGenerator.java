@@ -24,9 +24,15 @@
 
 package be.darkkraft.concurrentunique.verified;
 
+import be.darkkraft.concurrentunique.jfr.LockContentionEvent;
+import be.darkkraft.concurrentunique.metrics.MetricsSink;
+import be.darkkraft.concurrentunique.verified.reservation.ReservationStore;
+import be.darkkraft.concurrentunique.verified.reservation.ReservingGenerator;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -37,8 +43,35 @@ record ChainedSynchronizedVerifiedGenerator<T>(@NotNull VerifiedGenerator<T> del
     }
 
     @Override
-    public synchronized T generate() {
-        return this.delegate.generate();
+    public T generate() {
+        final LockContentionEvent event = new LockContentionEvent();
+        if (!event.isEnabled()) {
+            synchronized (this) {
+                return this.delegate.generate();
+            }
+        }
+        event.begin();
+        synchronized (this) {
+            event.acquired(this);
+            return this.delegate.generate();
+        }
+    }
+
+    @Override
+    public @Nullable T generate(final int maxRetry, final @NotNull MetricsSink sink) {
+        final LockContentionEvent event = new LockContentionEvent();
+        if (sink == MetricsSink.noop() && !event.isEnabled()) {
+            synchronized (this) {
+                return this.delegate.generate(maxRetry);
+            }
+        }
+        event.begin();
+        final long start = System.nanoTime();
+        synchronized (this) {
+            event.acquired(this);
+            sink.onLockWait(System.nanoTime() - start);
+            return sink == MetricsSink.noop() ? this.delegate.generate(maxRetry) : this.delegate.generate(maxRetry, sink);
+        }
     }
 
     @Override
@@ -52,14 +85,30 @@ record ChainedSynchronizedVerifiedGenerator<T>(@NotNull VerifiedGenerator<T> del
     }
 
     @Override
-    public synchronized <R> R compute(final @NotNull Function<T, R> function) {
+    public synchronized @NotNull List<T> generateBatch(final int count) {
+        return this.delegate.generateBatch(count);
+    }
+
+    @Override
+    public synchronized <R> R computeLocked(final @NotNull Function<T, R> function) {
         final T generated = this.generate();
         return function.apply(generated);
     }
 
+    @Override
+    public @NotNull VerifiedGenerator<T> synchronize() {
+        return this;
+    }
+
     @Override
     public int getMaxRetry() {
         return this.delegate.getMaxRetry();
     }
 
+    @Override
+    public @NotNull ReservingGenerator<T> toReserving(final @NotNull Duration timeout) {
+        final ReservationStore<T> store = this.delegate.toReserving(timeout).getStore();
+        return new ReservingGenerator<>(ReservationStore.synchronizedOn(store, this), timeout);
+    }
+
 }
\ No newline at end of file
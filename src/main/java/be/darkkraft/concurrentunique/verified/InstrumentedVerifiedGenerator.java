@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.verified;
+
+import be.darkkraft.concurrentunique.metrics.MetricsSink;
+import be.darkkraft.concurrentunique.verified.reservation.ReservingGenerator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Objects;
+
+record InstrumentedVerifiedGenerator<T>(@NotNull VerifiedGenerator<T> delegate, @NotNull MetricsSink sink) implements VerifiedGenerator<T> {
+
+    InstrumentedVerifiedGenerator {
+        Objects.requireNonNull(delegate, "delegate must not be null");
+        Objects.requireNonNull(sink, "sink must not be null");
+    }
+
+    @Override
+    public @Nullable T generate(final int maxRetry, final @NotNull MetricsSink sink) {
+        final long start = System.nanoTime();
+        final T generated = this.delegate.generate(maxRetry, MetricsSink.combine(this.sink, sink));
+        this.sink.onGenerate(System.nanoTime() - start);
+        return generated;
+    }
+
+    @Override
+    public @Nullable T regenerate() {
+        return this.delegate.regenerate();
+    }
+
+    @Override
+    public boolean isAlreadyExists(final @NotNull T generated) {
+        return this.delegate.isAlreadyExists(generated);
+    }
+
+    @Override
+    public int getMaxRetry() {
+        return this.delegate.getMaxRetry();
+    }
+
+    @Override
+    public @NotNull ReservingGenerator<T> toReserving(final @NotNull Duration timeout) {
+        return this.delegate.toReserving(timeout);
+    }
+
+}
\ No newline at end of file
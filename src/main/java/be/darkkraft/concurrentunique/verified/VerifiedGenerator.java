@@ -25,10 +25,16 @@
 package be.darkkraft.concurrentunique.verified;
 
 import be.darkkraft.concurrentunique.UniqueGenerator;
+import be.darkkraft.concurrentunique.jfr.CollisionEvent;
+import be.darkkraft.concurrentunique.jfr.GenerateEvent;
+import be.darkkraft.concurrentunique.metrics.MetricsSink;
+import be.darkkraft.concurrentunique.verified.reservation.ReservingGenerator;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
+import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -46,15 +52,31 @@ public interface VerifiedGenerator<T> extends UniqueGenerator<T> {
     }
 
     default @Nullable T generate(final int maxRetry) {
+        return this.generate(maxRetry, MetricsSink.noop());
+    }
+
+    default @Nullable T generate(final int maxRetry, final @NotNull MetricsSink sink) {
+        final GenerateEvent event = GenerateEvent.start();
         int remaining = Math.max(maxRetry, 1);
-        T generated;
-        do {
-            if (--remaining < 0) {
+        int retries = 0;
+        while (true) {
+            final T generated = this.regenerate();
+            if (generated != null) {
+                if (!this.isAlreadyExists(generated)) {
+                    GenerateEvent.finish(event, this, retries, false);
+                    return generated;
+                }
+                sink.onCollision();
+                CollisionEvent.emit(this, retries);
+            }
+            if (--remaining <= 0) {
+                sink.onExhausted();
+                GenerateEvent.finish(event, this, retries, true);
                 return null;
             }
-            generated = this.regenerate();
-        } while (generated == null || this.isAlreadyExists(generated));
-        return generated;
+            sink.onRetry();
+            retries++;
+        }
     }
 
     @Nullable T regenerate();
@@ -75,6 +97,19 @@ public interface VerifiedGenerator<T> extends UniqueGenerator<T> {
         return wrap(() -> function.apply(this.regenerate()), maxRetry, existPredicate);
     }
 
+    @Contract("_ -> new")
+    default @NotNull ReservingGenerator<T> toReserving(final @NotNull Duration timeout) {
+        return new ReservingGenerator<>(this, timeout);
+    }
+
+    @Override
+    default @NotNull VerifiedGenerator<T> instrumented(final @NotNull MetricsSink sink) {
+        if (Objects.requireNonNull(sink, "sink must not be null") == MetricsSink.noop()) {
+            return this;
+        }
+        return new InstrumentedVerifiedGenerator<>(this, sink);
+    }
+
     @Override
     @NotNull
     default VerifiedGenerator<T> synchronize() {
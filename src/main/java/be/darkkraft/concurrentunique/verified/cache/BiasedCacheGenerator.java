@@ -0,0 +1,209 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.verified.cache;
+
+import be.darkkraft.concurrentunique.UniqueGenerator;
+import be.darkkraft.concurrentunique.jfr.CollisionEvent;
+import be.darkkraft.concurrentunique.jfr.GenerateEvent;
+import be.darkkraft.concurrentunique.metrics.MetricsSink;
+import be.darkkraft.concurrentunique.verified.VerifiedGenerator;
+import be.darkkraft.concurrentunique.verified.reservation.ReservingGenerator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+public final class BiasedCacheGenerator<T> implements VerifiedGenerator<T> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<BiasedCacheGenerator, Thread> OWNER =
+            AtomicReferenceFieldUpdater.newUpdater(BiasedCacheGenerator.class, Thread.class, "owner");
+    private static final VarHandle OWNER_ACTIVE;
+    private static final int REVOKE_SPINS = 64;
+    private static final long REVOKE_PARK_NANOS = 10_000L;
+
+    static {
+        try {
+            OWNER_ACTIVE = MethodHandles.lookup().findVarHandle(BiasedCacheGenerator.class, "ownerActive", boolean.class);
+        } catch (final ReflectiveOperationException exception) {
+            throw new ExceptionInInitializerError(exception);
+        }
+    }
+
+    private final UniqueGenerator<T> delegate;
+    private final int maxRetry;
+
+    private volatile Thread owner;
+    private boolean ownerActive;
+    private volatile boolean revokeRequested;
+    private volatile ConcurrentFullCacheGenerator<T> inflated;
+    private Set<T> local = new HashSet<>();
+
+    public BiasedCacheGenerator(final @NotNull UniqueGenerator<T> delegate, final int maxRetry) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        this.maxRetry = maxRetry;
+    }
+
+    @Override
+    public @Nullable T generate(final int maxRetry, final @NotNull MetricsSink sink) {
+        if (this.enter()) {
+            try {
+                return this.generateLocally(maxRetry, sink);
+            } finally {
+                this.exit();
+            }
+        }
+        return this.inflate().generate(maxRetry, sink);
+    }
+
+    @Override
+    public @Nullable T regenerate() {
+        return this.delegate.generate();
+    }
+
+    @Override
+    public boolean isAlreadyExists(final @NotNull T generated) {
+        final Set<T> keys = this.ownedKeys();
+        if (keys != null) {
+            return keys.contains(generated);
+        }
+        return this.inflate().isAlreadyExists(generated);
+    }
+
+    @Override
+    public int getMaxRetry() {
+        return this.maxRetry;
+    }
+
+    @Override
+    public @NotNull VerifiedGenerator<T> synchronize() {
+        return this;
+    }
+
+    @Override
+    public @NotNull ReservingGenerator<T> toReserving(final @NotNull Duration timeout) {
+        return this.inflate().toReserving(timeout);
+    }
+
+    public boolean isInflated() {
+        return this.inflated != null;
+    }
+
+    public int size() {
+        final Set<T> keys = this.ownedKeys();
+        if (keys != null) {
+            return keys.size();
+        }
+        return this.inflate().size();
+    }
+
+    private @Nullable T generateLocally(final int maxRetry, final @NotNull MetricsSink sink) {
+        final GenerateEvent event = GenerateEvent.start();
+        int remaining = Math.max(maxRetry, 1);
+        int retries = 0;
+        while (true) {
+            final T generated = this.regenerate();
+            if (generated != null) {
+                if (this.local.add(generated)) {
+                    if (sink != MetricsSink.noop()) {
+                        sink.onCacheSize(this.local.size());
+                    }
+                    GenerateEvent.finish(event, this, retries, false);
+                    return generated;
+                }
+                sink.onCollision();
+                CollisionEvent.emit(this, retries);
+            }
+            if (--remaining <= 0) {
+                sink.onExhausted();
+                GenerateEvent.finish(event, this, retries, true);
+                return null;
+            }
+            sink.onRetry();
+            retries++;
+        }
+    }
+
+    private boolean enter() {
+        if (!this.isOwner()) {
+            return false;
+        }
+        OWNER_ACTIVE.setVolatile(this, true);
+        if (!this.revokeRequested) {
+            return true;
+        }
+        this.exit();
+        return false;
+    }
+
+    private void exit() {
+        OWNER_ACTIVE.setRelease(this, false);
+    }
+
+    private @Nullable Set<T> ownedKeys() {
+        return this.isOwner() && !this.revokeRequested ? this.local : null;
+    }
+
+    private boolean isOwner() {
+        final Thread current = Thread.currentThread();
+        final Thread bound = this.owner;
+        return bound == current || (bound == null && OWNER.compareAndSet(this, null, current));
+    }
+
+    private @NotNull ConcurrentFullCacheGenerator<T> inflate() {
+        ConcurrentFullCacheGenerator<T> concurrent = this.inflated;
+        if (concurrent != null) {
+            return concurrent;
+        }
+        synchronized (this) {
+            concurrent = this.inflated;
+            if (concurrent != null) {
+                return concurrent;
+            }
+            this.revokeRequested = true;
+            int spins = 0;
+            while ((boolean) OWNER_ACTIVE.getVolatile(this)) {
+                if (++spins < REVOKE_SPINS) {
+                    Thread.onSpinWait();
+                } else {
+                    LockSupport.parkNanos(this, REVOKE_PARK_NANOS);
+                }
+            }
+            concurrent = new ConcurrentFullCacheGenerator<>(this.delegate, this.maxRetry);
+            concurrent.preload(this.local);
+            this.local = null;
+            this.inflated = concurrent;
+            return concurrent;
+        }
+    }
+
+}
\ No newline at end of file
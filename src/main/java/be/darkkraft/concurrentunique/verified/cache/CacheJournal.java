@@ -0,0 +1,342 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.verified.cache;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public final class CacheJournal<T> implements Closeable {
+
+    static final String SEGMENT_PREFIX = "journal-";
+    static final String SEGMENT_SUFFIX = ".log";
+    static final String SNAPSHOT_PREFIX = "snapshot-";
+    static final String SNAPSHOT_SUFFIX = ".snap";
+    static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int READ_BUFFER_SIZE = 1 << 20;
+
+    private final Path directory;
+    private final KeySerializer<T> serializer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition synced = this.lock.newCondition();
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private final long recoveredSnapshot;
+    private final List<Path> recoveredSegments;
+
+    private FileChannel channel;
+    private RecordWriter writer;
+    private long generation;
+    private long appended;
+    private long durable;
+    private boolean syncing;
+    private boolean closed;
+
+    private CacheJournal(final @NotNull Path directory,
+                         final @NotNull KeySerializer<T> serializer,
+                         final long recoveredSnapshot,
+                         final @NotNull List<Path> recoveredSegments,
+                         final long generation) throws IOException {
+        this.directory = directory;
+        this.serializer = serializer;
+        this.recoveredSnapshot = recoveredSnapshot;
+        this.recoveredSegments = recoveredSegments;
+        this.generation = generation;
+        this.openSegment();
+    }
+
+    public static <T> @NotNull CacheJournal<T> open(final @NotNull Path directory, final @NotNull KeySerializer<T> serializer) throws IOException {
+        Objects.requireNonNull(directory, "directory must not be null");
+        Objects.requireNonNull(serializer, "serializer must not be null");
+        Files.createDirectories(directory);
+        long snapshot = -1L;
+        long generation = 0L;
+        final List<Path> segments = new ArrayList<>();
+        try (final Stream<Path> files = Files.list(directory)) {
+            for (final Path file : (Iterable<Path>) files::iterator) {
+                final String name = file.getFileName().toString();
+                final long snapshotGeneration = parseGeneration(name, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+                if (snapshotGeneration >= 0L) {
+                    snapshot = Math.max(snapshot, snapshotGeneration);
+                    generation = Math.max(generation, snapshotGeneration);
+                    continue;
+                }
+                final long segmentGeneration = parseGeneration(name, SEGMENT_PREFIX, SEGMENT_SUFFIX);
+                if (segmentGeneration >= 0L) {
+                    segments.add(file);
+                    generation = Math.max(generation, segmentGeneration);
+                } else if (name.endsWith(TEMPORARY_SUFFIX)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+        final long from = snapshot;
+        segments.removeIf(segment -> segmentGeneration(segment) <= from);
+        segments.sort((first, second) -> Long.compare(segmentGeneration(first), segmentGeneration(second)));
+        return new CacheJournal<>(directory, serializer, snapshot, List.copyOf(segments), generation + 1L);
+    }
+
+    public long replay(final @NotNull Consumer<? super T> consumer) throws IOException {
+        Objects.requireNonNull(consumer, "consumer must not be null");
+        long count = 0L;
+        if (this.recoveredSnapshot >= 0L) {
+            final Path snapshot = this.snapshotPath(this.recoveredSnapshot);
+            try (final FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+                final RecordReader reader = new RecordReader(channel, READ_BUFFER_SIZE);
+                T key;
+                while ((key = reader.read(this.serializer)) != null) {
+                    consumer.accept(key);
+                    count++;
+                }
+                if (!reader.isClean()) {
+                    throw new IOException("Snapshot " + snapshot + " is corrupted");
+                }
+            }
+        }
+        int newest = this.recoveredSegments.size() - 1;
+        while (newest > 0 && Files.size(this.recoveredSegments.get(newest)) == 0L) {
+            newest--;
+        }
+        for (int i = 0; i < this.recoveredSegments.size(); i++) {
+            final Path segment = this.recoveredSegments.get(i);
+            try (final FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                final RecordReader reader = new RecordReader(channel, READ_BUFFER_SIZE);
+                T key;
+                while ((key = reader.read(this.serializer)) != null) {
+                    consumer.accept(key);
+                    count++;
+                }
+                if (!reader.isClean()) {
+                    if (i != newest) {
+                        throw new IOException("Segment " + segment + " is corrupted before its tail");
+                    }
+                    channel.truncate(reader.getValidLength());
+                    channel.force(true);
+                }
+            }
+        }
+        return count;
+    }
+
+    public void append(final @NotNull T key) throws IOException {
+        Objects.requireNonNull(key, "key must not be null");
+        this.lock.lock();
+        try {
+            this.ensureOpen();
+            this.writer.write(key, this.serializer);
+            final long sequence = ++this.appended;
+            while (this.durable < sequence) {
+                if (this.syncing) {
+                    this.synced.awaitUninterruptibly();
+                    continue;
+                }
+                this.ensureOpen();
+                this.sync();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public void snapshot(final @NotNull Iterable<? extends T> keys) throws IOException {
+        Objects.requireNonNull(keys, "keys must not be null");
+        this.snapshotLock.lock();
+        try {
+            final long snapshotGeneration;
+            this.lock.lock();
+            try {
+                this.ensureOpen();
+                this.awaitSync();
+                this.closeSegment();
+                snapshotGeneration = this.generation++;
+                this.openSegment();
+            } finally {
+                this.lock.unlock();
+            }
+            this.writeSnapshot(keys, snapshotGeneration);
+            this.deleteBefore(snapshotGeneration);
+        } finally {
+            this.snapshotLock.unlock();
+        }
+    }
+
+    public long getGeneration() {
+        this.lock.lock();
+        try {
+            return this.generation;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public long getSegmentSize() {
+        this.lock.lock();
+        try {
+            return this.writer.getWritten();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public @NotNull Path getDirectory() {
+        return this.directory;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.lock.lock();
+        try {
+            if (this.closed) {
+                return;
+            }
+            this.awaitSync();
+            this.closed = true;
+            this.closeSegment();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void sync() throws IOException {
+        this.syncing = true;
+        final long target = this.appended;
+        final FileChannel channel = this.channel;
+        try {
+            this.writer.flush();
+            this.lock.unlock();
+            try {
+                channel.force(false);
+            } finally {
+                this.lock.lock();
+            }
+            this.durable = Math.max(this.durable, target);
+        } finally {
+            this.syncing = false;
+            this.synced.signalAll();
+        }
+    }
+
+    private void awaitSync() {
+        while (this.syncing) {
+            this.synced.awaitUninterruptibly();
+        }
+    }
+
+    private void openSegment() throws IOException {
+        this.channel = FileChannel.open(this.segmentPath(this.generation),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.writer = new RecordWriter(this.channel, BUFFER_SIZE);
+    }
+
+    private void closeSegment() throws IOException {
+        try (final FileChannel channel = this.channel) {
+            this.writer.flush();
+            channel.force(false);
+            this.durable = this.appended;
+        }
+    }
+
+    private void writeSnapshot(final @NotNull Iterable<? extends T> keys, final long snapshotGeneration) throws IOException {
+        final Path temporary = this.directory.resolve(SNAPSHOT_PREFIX + snapshotGeneration + TEMPORARY_SUFFIX);
+        try (final FileChannel channel = FileChannel.open(temporary,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            final RecordWriter snapshotWriter = new RecordWriter(channel, READ_BUFFER_SIZE);
+            for (final T key : keys) {
+                snapshotWriter.write(key, this.serializer);
+            }
+            snapshotWriter.flush();
+            channel.force(true);
+        } catch (final IOException | RuntimeException exception) {
+            Files.deleteIfExists(temporary);
+            throw exception;
+        }
+        Files.move(temporary, this.snapshotPath(snapshotGeneration), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        this.syncDirectory();
+    }
+
+    private void deleteBefore(final long snapshotGeneration) throws IOException {
+        try (final Stream<Path> files = Files.list(this.directory)) {
+            for (final Path file : (Iterable<Path>) files::iterator) {
+                final String name = file.getFileName().toString();
+                final long snapshot = parseGeneration(name, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+                final long segment = parseGeneration(name, SEGMENT_PREFIX, SEGMENT_SUFFIX);
+                if ((snapshot >= 0L && snapshot < snapshotGeneration) || (segment >= 0L && segment <= snapshotGeneration)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private void syncDirectory() {
+        try (final FileChannel channel = FileChannel.open(this.directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (final IOException ignored) {
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (this.closed) {
+            throw new IOException("Journal is closed");
+        }
+    }
+
+    private @NotNull Path segmentPath(final long generation) {
+        return this.directory.resolve(SEGMENT_PREFIX + generation + SEGMENT_SUFFIX);
+    }
+
+    private @NotNull Path snapshotPath(final long generation) {
+        return this.directory.resolve(SNAPSHOT_PREFIX + generation + SNAPSHOT_SUFFIX);
+    }
+
+    private static long segmentGeneration(final @NotNull Path segment) {
+        return parseGeneration(segment.getFileName().toString(), SEGMENT_PREFIX, SEGMENT_SUFFIX);
+    }
+
+    private static long parseGeneration(final @NotNull String name, final @NotNull String prefix, final @NotNull String suffix) {
+        if (!name.startsWith(prefix) || !name.endsWith(suffix) || name.length() == prefix.length() + suffix.length()) {
+            return -1L;
+        }
+        try {
+            return Long.parseLong(name, prefix.length(), name.length() - suffix.length(), 10);
+        } catch (final NumberFormatException ignored) {
+            return -1L;
+        }
+    }
+
+}
\ No newline at end of file
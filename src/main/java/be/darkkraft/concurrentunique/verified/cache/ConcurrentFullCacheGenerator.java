@@ -25,19 +25,105 @@
 package be.darkkraft.concurrentunique.verified.cache;
 
 import be.darkkraft.concurrentunique.UniqueGenerator;
+import be.darkkraft.concurrentunique.jfr.LockContentionEvent;
+import be.darkkraft.concurrentunique.metrics.MetricsSink;
+import be.darkkraft.concurrentunique.verified.VerifiedGenerator;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 
 public final class ConcurrentFullCacheGenerator<T> extends FullCacheGenerator<T> {
 
     public ConcurrentFullCacheGenerator(final @NotNull UniqueGenerator<T> delegate, final int maxRetry) {
-        super(delegate, ConcurrentHashMap.newKeySet(), maxRetry);
+        this(delegate, maxRetry, FullCacheGeneratorBuilder.DEFAULT_LOAD_FACTOR, FullCacheGeneratorBuilder.DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    ConcurrentFullCacheGenerator(final @NotNull UniqueGenerator<T> delegate, final int maxRetry, final float loadFactor, final int concurrencyLevel) {
+        super(delegate, expectedSize -> newKeySet(expectedSize, loadFactor, concurrencyLevel), maxRetry);
+    }
+
+    private ConcurrentFullCacheGenerator(final @NotNull UniqueGenerator<T> delegate,
+                                         final @NotNull IntFunction<Set<T>> keySetFactory,
+                                         final int maxRetry) {
+        super(delegate, keySetFactory, maxRetry);
+    }
+
+    public static @NotNull ConcurrentFullCacheGenerator<Integer> bitmap(final @NotNull UniqueGenerator<Integer> delegate, final int maxRetry) {
+        return new ConcurrentFullCacheGenerator<>(delegate, expectedSize -> new ConcurrentIntBitmapSet(), maxRetry);
+    }
+
+    private static <T> @NotNull Set<T> newKeySet(final int expectedSize, final float loadFactor, final int concurrencyLevel) {
+        if (expectedSize <= 0 && concurrencyLevel <= 1) {
+            return ConcurrentHashMap.newKeySet();
+        }
+        return new ConcurrentHashMap<T, Boolean>(Math.max(expectedSize, 1), loadFactor, concurrencyLevel).keySet(Boolean.TRUE);
+    }
+
+    @Override
+    public synchronized void ensureCapacity(final int expectedSize) {
+        super.ensureCapacity(expectedSize);
+    }
+
+    @Override
+    public synchronized void purge() {
+        super.purge();
+    }
+
+    @Override
+    public synchronized boolean release(final @NotNull T key) {
+        return super.release(key);
+    }
+
+    @Override
+    synchronized void addKeys(final @NotNull Collection<? extends T> keys) {
+        super.addKeys(keys);
+    }
+
+    @Override
+    synchronized void addKey(final @NotNull T key) {
+        super.addKey(key);
+    }
+
+    @Override
+    synchronized boolean claimKey(final @NotNull T key) {
+        return super.claimKey(key);
+    }
+
+    @Override
+    public @NotNull VerifiedGenerator<T> synchronize() {
+        return this;
+    }
+
+    @Override
+    public synchronized @NotNull List<T> generateBatch(final int count) {
+        return super.generateBatch(count);
+    }
+
+    @Override
+    public synchronized <R> R computeLocked(final @NotNull Function<T, R> function) {
+        return function.apply(this.generate());
     }
 
     @Override
-    public synchronized T generate(final int maxRetry) {
-        return super.generate(maxRetry);
+    public T generate(final int maxRetry, final @NotNull MetricsSink sink) {
+        final LockContentionEvent event = new LockContentionEvent();
+        if (sink == MetricsSink.noop() && !event.isEnabled()) {
+            synchronized (this) {
+                return super.generate(maxRetry, sink);
+            }
+        }
+        event.begin();
+        final long start = System.nanoTime();
+        synchronized (this) {
+            event.acquired(this);
+            sink.onLockWait(System.nanoTime() - start);
+            return super.generate(maxRetry, sink);
+        }
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.verified.cache;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.IntConsumer;
+
+public final class ConcurrentIntBitmapSet extends AbstractSet<Integer> {
+
+    private final StampedLock lock = new StampedLock();
+    private final IntBitmapSet bitmap;
+
+    public ConcurrentIntBitmapSet() {
+        this(new IntBitmapSet());
+    }
+
+    private ConcurrentIntBitmapSet(final @NotNull IntBitmapSet bitmap) {
+        this.bitmap = Objects.requireNonNull(bitmap, "bitmap must not be null");
+    }
+
+    public static @NotNull ConcurrentIntBitmapSet readFrom(final @NotNull ReadableByteChannel channel) throws IOException {
+        return new ConcurrentIntBitmapSet(IntBitmapSet.readFrom(channel));
+    }
+
+    public boolean add(final int value) {
+        final long stamp = this.lock.writeLock();
+        try {
+            return this.bitmap.add(value);
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean contains(final int value) {
+        final long stamp = this.lock.readLock();
+        try {
+            return this.bitmap.contains(value);
+        } finally {
+            this.lock.unlockRead(stamp);
+        }
+    }
+
+    public boolean remove(final int value) {
+        final long stamp = this.lock.writeLock();
+        try {
+            return this.bitmap.remove(value);
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    public void forEachInt(final @NotNull IntConsumer action) {
+        this.snapshot().forEachInt(action);
+    }
+
+    public @NotNull IntBitmapSet snapshot() {
+        final long stamp = this.lock.readLock();
+        try {
+            return this.bitmap.copy();
+        } finally {
+            this.lock.unlockRead(stamp);
+        }
+    }
+
+    public long getSizeInBytes() {
+        final long stamp = this.lock.readLock();
+        try {
+            return this.bitmap.getSizeInBytes();
+        } finally {
+            this.lock.unlockRead(stamp);
+        }
+    }
+
+    public void writeTo(final @NotNull WritableByteChannel channel) throws IOException {
+        this.snapshot().writeTo(channel);
+    }
+
+    @Override
+    public boolean add(final @NotNull Integer value) {
+        return this.add(value.intValue());
+    }
+
+    @Override
+    public boolean addAll(final @NotNull Collection<? extends Integer> values) {
+        final long stamp = this.lock.writeLock();
+        try {
+            boolean modified = false;
+            for (final Integer value : values) {
+                modified |= this.bitmap.add(value.intValue());
+            }
+            return modified;
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean contains(final Object value) {
+        return value instanceof Integer integer && this.contains(integer.intValue());
+    }
+
+    @Override
+    public boolean remove(final Object value) {
+        return value instanceof Integer integer && this.remove(integer.intValue());
+    }
+
+    @Override
+    public void clear() {
+        final long stamp = this.lock.writeLock();
+        try {
+            this.bitmap.clear();
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public @NotNull PrimitiveIterator.OfInt iterator() {
+        return this.snapshot().intIterator();
+    }
+
+    @Override
+    public int size() {
+        final long stamp = this.lock.readLock();
+        try {
+            return this.bitmap.size();
+        } finally {
+            this.lock.unlockRead(stamp);
+        }
+    }
+
+}
\ No newline at end of file
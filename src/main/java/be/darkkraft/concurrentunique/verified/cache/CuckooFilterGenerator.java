@@ -0,0 +1,301 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.verified.cache;
+
+import be.darkkraft.concurrentunique.UniqueGenerator;
+import be.darkkraft.concurrentunique.metrics.MetricsSink;
+import be.darkkraft.concurrentunique.verified.VerifiedGenerator;
+import be.darkkraft.concurrentunique.verified.reservation.ReservationStore;
+import be.darkkraft.concurrentunique.verified.reservation.ReservingGenerator;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+public final class CuckooFilterGenerator<T> implements VerifiedGenerator<T> {
+
+    private static final int BUCKET_SIZE = 4;
+    private static final int MAX_KICKS = 500;
+    private static final double MAX_LOAD = 0.95D;
+
+    private final UniqueGenerator<T> delegate;
+    private final ToLongFunction<? super T> hasher;
+    private final short[] table;
+    private final int bucketMask;
+
+    private int maxRetry;
+    private int size;
+    private short victim;
+    private int victimBucket;
+    private long kickState = 0x9E3779B97F4A7C15L;
+
+    public CuckooFilterGenerator(final @NotNull UniqueGenerator<T> delegate, final int expectedCapacity, final int maxRetry) {
+        this(delegate, expectedCapacity, maxRetry, CuckooFilterGenerator::hash);
+    }
+
+    public CuckooFilterGenerator(final @NotNull UniqueGenerator<T> delegate,
+                                 final int expectedCapacity,
+                                 final int maxRetry,
+                                 final @NotNull ToLongFunction<? super T> hasher) {
+        if (expectedCapacity <= 0) {
+            throw new IllegalArgumentException("Expected capacity must be positive: " + expectedCapacity);
+        }
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        this.hasher = Objects.requireNonNull(hasher, "hasher must not be null");
+        final long required = (long) Math.ceil(expectedCapacity / (BUCKET_SIZE * MAX_LOAD));
+        final int buckets = (int) Math.min(1L << 28, Math.max(1L, Long.highestOneBit(Math.max(1L, required - 1L)) << 1));
+        this.table = new short[buckets * BUCKET_SIZE];
+        this.bucketMask = buckets - 1;
+        this.maxRetry = maxRetry;
+    }
+
+    @Override
+    public T regenerate() {
+        return this.delegate.generate();
+    }
+
+    @Override
+    public synchronized T generate(final int maxRetry, final @NotNull MetricsSink sink) {
+        final T generated = VerifiedGenerator.super.generate(maxRetry, sink);
+        if (generated == null) {
+            return null;
+        }
+        if (!this.insert(this.hasher.applyAsLong(generated))) {
+            sink.onExhausted();
+            return null;
+        }
+        return generated;
+    }
+
+    @Override
+    public synchronized boolean isAlreadyExists(final @NotNull T generated) {
+        final long hash = this.hasher.applyAsLong(generated);
+        final short fingerprint = fingerprint(hash);
+        final int first = this.firstBucket(hash);
+        final int second = this.alternateBucket(first, fingerprint);
+        return this.bucketContains(first, fingerprint) || this.bucketContains(second, fingerprint) ||
+                (this.victim == fingerprint && (this.victimBucket == first || this.victimBucket == second));
+    }
+
+    @Override
+    public @NotNull ReservingGenerator<T> toReserving(final @NotNull Duration timeout) {
+        return new ReservingGenerator<>(new ReservationStore<>() {
+            private final Set<T> claimed = new HashSet<>();
+
+            @Override
+            public T candidate() {
+                return CuckooFilterGenerator.this.regenerate();
+            }
+
+            @Override
+            public boolean claim(final @NotNull T value) {
+                synchronized (CuckooFilterGenerator.this) {
+                    if (CuckooFilterGenerator.this.isAlreadyExists(value) ||
+                            !CuckooFilterGenerator.this.insert(CuckooFilterGenerator.this.hasher.applyAsLong(value))) {
+                        return false;
+                    }
+                    this.claimed.add(value);
+                    return true;
+                }
+            }
+
+            @Override
+            public void commit(final @NotNull T value) {
+                synchronized (CuckooFilterGenerator.this) {
+                    this.claimed.remove(value);
+                }
+            }
+
+            @Override
+            public void release(final @NotNull T value) {
+                synchronized (CuckooFilterGenerator.this) {
+                    if (this.claimed.remove(value)) {
+                        CuckooFilterGenerator.this.release(value);
+                    }
+                }
+            }
+
+            @Override
+            public int getMaxRetry() {
+                return CuckooFilterGenerator.this.getMaxRetry();
+            }
+        }, timeout);
+    }
+
+    synchronized boolean release(final @NotNull T key) {
+        Objects.requireNonNull(key, "key must not be null");
+        final long hash = this.hasher.applyAsLong(key);
+        final short fingerprint = fingerprint(hash);
+        final int first = this.firstBucket(hash);
+        final int second = this.alternateBucket(first, fingerprint);
+        if (this.victim == fingerprint && (this.victimBucket == first || this.victimBucket == second)) {
+            this.victim = 0;
+        } else if (!this.bucketRemove(first, fingerprint) && !this.bucketRemove(second, fingerprint)) {
+            return false;
+        }
+        this.size--;
+        if (this.victim != 0) {
+            final short pending = this.victim;
+            final int bucket = this.victimBucket;
+            this.victim = 0;
+            this.size--;
+            this.place(bucket, pending);
+        }
+        return true;
+    }
+
+    @Override
+    public @NotNull VerifiedGenerator<T> synchronize() {
+        return this;
+    }
+
+    @Override
+    public synchronized @NotNull List<T> generateBatch(final int count) {
+        return VerifiedGenerator.super.generateBatch(count);
+    }
+
+    @Override
+    public synchronized <R> R computeLocked(final @NotNull Function<T, R> function) {
+        return function.apply(this.generate());
+    }
+
+    @Override
+    public int getMaxRetry() {
+        return this.maxRetry;
+    }
+
+    public void setMaxRetry(final int maxRetry) {
+        this.maxRetry = maxRetry;
+    }
+
+    public synchronized int size() {
+        return this.size;
+    }
+
+    public int getCapacity() {
+        return this.table.length;
+    }
+
+    private boolean insert(final long hash) {
+        if (this.victim != 0) {
+            return false;
+        }
+        final short fingerprint = fingerprint(hash);
+        final int first = this.firstBucket(hash);
+        return this.place(first, fingerprint);
+    }
+
+    private boolean place(final int first, final short fingerprint) {
+        final int second = this.alternateBucket(first, fingerprint);
+        this.size++;
+        if (this.bucketAdd(first, fingerprint) || this.bucketAdd(second, fingerprint)) {
+            return true;
+        }
+        int bucket = (this.nextKick() & 1) == 0 ? first : second;
+        short current = fingerprint;
+        for (int kick = 0; kick < MAX_KICKS; kick++) {
+            final int slot = bucket * BUCKET_SIZE + (this.nextKick() & (BUCKET_SIZE - 1));
+            final short evicted = this.table[slot];
+            this.table[slot] = current;
+            current = evicted;
+            bucket = this.alternateBucket(bucket, current);
+            if (this.bucketAdd(bucket, current)) {
+                return true;
+            }
+        }
+        this.victim = current;
+        this.victimBucket = bucket;
+        return true;
+    }
+
+    private boolean bucketContains(final int bucket, final short fingerprint) {
+        final int offset = bucket * BUCKET_SIZE;
+        for (int i = offset; i < offset + BUCKET_SIZE; i++) {
+            if (this.table[i] == fingerprint) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean bucketAdd(final int bucket, final short fingerprint) {
+        final int offset = bucket * BUCKET_SIZE;
+        for (int i = offset; i < offset + BUCKET_SIZE; i++) {
+            if (this.table[i] == 0) {
+                this.table[i] = fingerprint;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean bucketRemove(final int bucket, final short fingerprint) {
+        final int offset = bucket * BUCKET_SIZE;
+        for (int i = offset; i < offset + BUCKET_SIZE; i++) {
+            if (this.table[i] == fingerprint) {
+                this.table[i] = 0;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int firstBucket(final long hash) {
+        return (int) hash & this.bucketMask;
+    }
+
+    private int alternateBucket(final int bucket, final short fingerprint) {
+        return (bucket ^ (fingerprint * 0x5BD1E995)) & this.bucketMask;
+    }
+
+    private int nextKick() {
+        long x = this.kickState;
+        x ^= x << 13;
+        x ^= x >>> 7;
+        x ^= x << 17;
+        this.kickState = x;
+        return (int) (x >>> 32);
+    }
+
+    private static short fingerprint(final long hash) {
+        final short fingerprint = (short) (hash >>> 48);
+        return fingerprint == 0 ? 1 : fingerprint;
+    }
+
+    private static long hash(final @NotNull Object key) {
+        long h = key.hashCode() * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+
+}
\ No newline at end of file
@@ -25,24 +25,50 @@
 package be.darkkraft.concurrentunique.verified.cache;
 
 import be.darkkraft.concurrentunique.UniqueGenerator;
+import be.darkkraft.concurrentunique.jfr.CachePurgeEvent;
+import be.darkkraft.concurrentunique.jfr.CacheResizeEvent;
+import be.darkkraft.concurrentunique.metrics.MetricsSink;
 import be.darkkraft.concurrentunique.verified.VerifiedGenerator;
+import be.darkkraft.concurrentunique.verified.reservation.ReservingGenerator;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
+import org.jetbrains.annotations.UnmodifiableView;
 
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
 
 abstract sealed class FullCacheGenerator<T> implements VerifiedGenerator<T> permits ConcurrentFullCacheGenerator, SequentialFullCacheGenerator {
 
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int IMPORT_BATCH_SIZE = 8192;
+
     private final UniqueGenerator<T> delegate;
-    private final Set<T> keys;
+    private final IntFunction<Set<T>> keySetFactory;
+    private volatile Set<T> keys;
 
     private int maxRetry;
+    private int expectedSize;
+    private @Nullable ResizeTracker resizeTracker;
+    private volatile @Nullable RecyclePool<T> recyclePool;
 
-    FullCacheGenerator(final @NotNull UniqueGenerator<T> delegate, final @NotNull Set<T> keys, final int maxRetry) {
+    FullCacheGenerator(final @NotNull UniqueGenerator<T> delegate, final @NotNull IntFunction<Set<T>> keySetFactory, final int maxRetry) {
         this.delegate = Objects.requireNonNull(delegate, "generator must not be null");
-        this.keys = Objects.requireNonNull(keys, "keys must not be null");
+        this.keySetFactory = Objects.requireNonNull(keySetFactory, "keySetFactory must not be null");
+        this.keys = Objects.requireNonNull(keySetFactory.apply(0), "keys must not be null");
         this.maxRetry = maxRetry;
     }
 
@@ -52,10 +78,21 @@ abstract sealed class FullCacheGenerator<T> implements VerifiedGenerator<T> perm
     }
 
     @Override
-    public T generate(final int maxRetry) {
-        final T generated = VerifiedGenerator.super.generate(maxRetry);
+    public T generate(final int maxRetry, final @NotNull MetricsSink sink) {
+        T generated = this.recycle();
+        if (generated == null) {
+            generated = VerifiedGenerator.super.generate(maxRetry, sink);
+            if (generated != null) {
+                this.keys.add(generated);
+            }
+        }
         if (generated != null) {
-            this.keys.add(generated);
+            if (this.resizeTracker != null) {
+                this.resizeTracker.onSize(this.keys.size());
+            }
+            if (sink != MetricsSink.noop()) {
+                sink.onCacheSize(this.keys.size());
+            }
         }
         return generated;
     }
@@ -65,6 +102,13 @@ abstract sealed class FullCacheGenerator<T> implements VerifiedGenerator<T> perm
         return this.keys.contains(generated);
     }
 
+    @Override
+    public <R> @NotNull VerifiedGenerator<R> map(final @NotNull Function<T, R> function,
+                                                 final int maxRetry,
+                                                 final @NotNull Predicate<R> existPredicate) {
+        return VerifiedGenerator.wrap(this.delegate.map(function), maxRetry, existPredicate);
+    }
+
     @Override
     public int getMaxRetry() {
         return this.maxRetry;
@@ -74,8 +118,122 @@ abstract sealed class FullCacheGenerator<T> implements VerifiedGenerator<T> perm
         this.maxRetry = maxRetry;
     }
 
+    public int size() {
+        return this.keys.size();
+    }
+
+    public boolean release(final @NotNull T key) {
+        Objects.requireNonNull(key, "key must not be null");
+        if (!this.keys.remove(key)) {
+            return false;
+        }
+        final RecyclePool<T> pool = this.recyclePool;
+        if (pool != null) {
+            pool.offer(key);
+        }
+        return true;
+    }
+
+    public void enableRecycling(final int capacity) {
+        this.recyclePool = new RecyclePool<>(capacity);
+    }
+
+    public int getRecycledCount() {
+        final RecyclePool<T> pool = this.recyclePool;
+        return pool != null ? pool.size() : 0;
+    }
+
+    public void ensureCapacity(final int expectedSize) {
+        if (expectedSize <= this.expectedSize) {
+            return;
+        }
+        final CacheResizeEvent event = new CacheResizeEvent();
+        event.begin();
+        final int previousSize = this.expectedSize;
+        this.expectedSize = expectedSize;
+        final Set<T> current = this.keys;
+        final Set<T> resized = this.keySetFactory.apply(expectedSize);
+        resized.addAll(current);
+        this.keys = resized;
+        if (this.resizeTracker != null) {
+            this.resizeTracker.reset(expectedSize);
+        }
+        event.end(previousSize, expectedSize, resized.size());
+    }
+
+    public void preload(final @NotNull Collection<? extends T> keys) {
+        Objects.requireNonNull(keys, "keys must not be null");
+        this.ensureCapacity((int) Math.min(Integer.MAX_VALUE, (long) this.keys.size() + keys.size()));
+        this.addKeys(keys);
+    }
+
+    public long importKeys(final @NotNull ReadableByteChannel channel, final @NotNull KeySerializer<T> serializer) throws IOException {
+        return this.importKeys(channel, serializer, 0);
+    }
+
+    public long importKeys(final @NotNull ReadableByteChannel channel,
+                           final @NotNull KeySerializer<T> serializer,
+                           final int expectedSize) throws IOException {
+        Objects.requireNonNull(serializer, "serializer must not be null");
+        if (expectedSize > 0) {
+            this.ensureCapacity((int) Math.min(Integer.MAX_VALUE, (long) this.keys.size() + expectedSize));
+        }
+        final RecordReader reader = new RecordReader(channel, BUFFER_SIZE);
+        final List<T> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+        long count = 0L;
+        T key;
+        while ((key = reader.read(serializer)) != null) {
+            batch.add(key);
+            if (batch.size() == IMPORT_BATCH_SIZE) {
+                this.addKeys(batch);
+                batch.clear();
+            }
+            count++;
+        }
+        this.addKeys(batch);
+        if (!reader.isClean()) {
+            throw new IOException("Key stream is corrupted after " + count + " keys");
+        }
+        return count;
+    }
+
+    public long exportKeys(final @NotNull WritableByteChannel channel, final @NotNull KeySerializer<T> serializer) throws IOException {
+        Objects.requireNonNull(serializer, "serializer must not be null");
+        final RecordWriter writer = new RecordWriter(channel, BUFFER_SIZE);
+        long count = 0L;
+        for (final T key : this.keys) {
+            writer.write(key, serializer);
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    public void forEachKey(final @NotNull Consumer<? super T> action) {
+        this.keys.forEach(action);
+    }
+
+    public @NotNull JournaledCacheGenerator<T> journaled(final @NotNull CacheJournal<T> journal) throws IOException {
+        Objects.requireNonNull(journal, "journal must not be null");
+        journal.replay(this::addKey);
+        return new JournaledCacheGenerator<>(this, journal);
+    }
+
+    @Override
+    public @NotNull ReservingGenerator<T> toReserving(final @NotNull Duration timeout) {
+        return new ReservingGenerator<>(new CacheReservationStore<>(this, null), timeout);
+    }
+
     public void purge() {
+        final CachePurgeEvent event = new CachePurgeEvent();
+        if (!event.isEnabled()) {
+            this.keys.clear();
+            return;
+        }
+        event.begin();
+        final int removed = this.keys.size();
         this.keys.clear();
+        event.end(removed);
     }
 
     @Unmodifiable
@@ -84,4 +242,50 @@ abstract sealed class FullCacheGenerator<T> implements VerifiedGenerator<T> perm
         return Set.copyOf(this.keys);
     }
 
+    private @Nullable T recycle() {
+        final RecyclePool<T> pool = this.recyclePool;
+        if (pool == null) {
+            return null;
+        }
+        T key;
+        while ((key = pool.poll()) != null) {
+            if (this.keys.add(key)) {
+                return key;
+            }
+        }
+        return null;
+    }
+
+    void addKeys(final @NotNull Collection<? extends T> keys) {
+        this.keys.addAll(keys);
+        if (this.resizeTracker != null) {
+            this.resizeTracker.onSize(this.keys.size());
+        }
+    }
+
+    void trackResizes(final @NotNull ResizeTracker resizeTracker) {
+        this.resizeTracker = resizeTracker;
+    }
+
+    boolean claimKey(final @NotNull T key) {
+        if (!this.keys.add(key)) {
+            return false;
+        }
+        if (this.resizeTracker != null) {
+            this.resizeTracker.onSize(this.keys.size());
+        }
+        return true;
+    }
+
+    void addKey(final @NotNull T key) {
+        if (this.keys.add(key) && this.resizeTracker != null) {
+            this.resizeTracker.onSize(this.keys.size());
+        }
+    }
+
+    @UnmodifiableView
+    @NotNull Set<T> keysView() {
+        return Collections.unmodifiableSet(this.keys);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.verified.cache;
+
+import be.darkkraft.concurrentunique.UniqueGenerator;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+public final class FullCacheGeneratorBuilder<T> {
+
+    static final float DEFAULT_LOAD_FACTOR = 0.75F;
+    static final int DEFAULT_CONCURRENCY_LEVEL = 1;
+
+    private final UniqueGenerator<T> delegate;
+    private int maxRetry = 5;
+    private int expectedCapacity;
+    private float loadFactor = DEFAULT_LOAD_FACTOR;
+    private int concurrencyLevel = DEFAULT_CONCURRENCY_LEVEL;
+    private @Nullable ResizeListener resizeListener;
+    private int recyclingCapacity;
+
+    public FullCacheGeneratorBuilder(final @NotNull UniqueGenerator<T> delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+    }
+
+    @Contract("_ -> this")
+    public @NotNull FullCacheGeneratorBuilder<T> maxRetry(final int maxRetry) {
+        this.maxRetry = maxRetry;
+        return this;
+    }
+
+    @Contract("_ -> this")
+    public @NotNull FullCacheGeneratorBuilder<T> expectedCapacity(final int expectedCapacity) {
+        if (expectedCapacity < 0) {
+            throw new IllegalArgumentException("Expected capacity must not be negative: " + expectedCapacity);
+        }
+        this.expectedCapacity = expectedCapacity;
+        return this;
+    }
+
+    @Contract("_ -> this")
+    public @NotNull FullCacheGeneratorBuilder<T> loadFactor(final float loadFactor) {
+        if (!(loadFactor > 0.0F) || Float.isInfinite(loadFactor)) {
+            throw new IllegalArgumentException("Load factor must be positive: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        return this;
+    }
+
+    @Contract("_ -> this")
+    public @NotNull FullCacheGeneratorBuilder<T> concurrencyLevel(final int concurrencyLevel) {
+        if (concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("Concurrency level must be positive: " + concurrencyLevel);
+        }
+        this.concurrencyLevel = concurrencyLevel;
+        return this;
+    }
+
+    @Contract("_ -> this")
+    public @NotNull FullCacheGeneratorBuilder<T> resizeListener(final @Nullable ResizeListener resizeListener) {
+        this.resizeListener = resizeListener;
+        return this;
+    }
+
+    @Contract("_ -> this")
+    public @NotNull FullCacheGeneratorBuilder<T> recycling(final int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Recycling capacity must not be negative: " + capacity);
+        }
+        this.recyclingCapacity = capacity;
+        return this;
+    }
+
+    @Contract("-> new")
+    public @NotNull SequentialFullCacheGenerator<T> buildSequential() {
+        final SequentialFullCacheGenerator<T> generator = new SequentialFullCacheGenerator<>(this.delegate, this.maxRetry, this.loadFactor);
+        if (this.resizeListener != null) {
+            generator.trackResizes(ResizeTracker.sequential(this.resizeListener, this.loadFactor, this.expectedCapacity));
+        }
+        return this.configure(generator);
+    }
+
+    @Contract("-> new")
+    public @NotNull ConcurrentFullCacheGenerator<T> buildConcurrent() {
+        final ConcurrentFullCacheGenerator<T> generator = new ConcurrentFullCacheGenerator<>(this.delegate, this.maxRetry, this.loadFactor, this.concurrencyLevel);
+        if (this.resizeListener != null) {
+            generator.trackResizes(ResizeTracker.concurrent(this.resizeListener, this.loadFactor, this.concurrencyLevel, this.expectedCapacity));
+        }
+        return this.configure(generator);
+    }
+
+    private <G extends FullCacheGenerator<T>> @NotNull G configure(final @NotNull G generator) {
+        generator.ensureCapacity(this.expectedCapacity);
+        if (this.recyclingCapacity > 0) {
+            generator.enableRecycling(this.recyclingCapacity);
+        }
+        return generator;
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,521 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.verified.cache;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+public final class IntBitmapSet extends AbstractSet<Integer> {
+
+    static final int MAGIC = 0x52424D31;
+
+    private static final int ARRAY_LIMIT = 4096;
+    private static final int BITMAP_WORDS = 1024;
+    private static final byte ARRAY_TYPE = 0;
+    private static final byte BITMAP_TYPE = 1;
+    private static final int BUFFER_SIZE = 1 << 14;
+
+    private char[] keys = new char[4];
+    private Container[] containers = new Container[4];
+    private int containerCount;
+    private int size;
+
+    public boolean add(final int value) {
+        final char high = (char) (value >>> 16);
+        int index = this.indexOf(high);
+        if (index < 0) {
+            index = -index - 1;
+            this.insertContainer(index, high, new ArrayContainer());
+        }
+        final Container container = this.containers[index];
+        final int before = container.cardinality();
+        this.containers[index] = container.add((char) value);
+        if (this.containers[index].cardinality() == before) {
+            return false;
+        }
+        this.size++;
+        return true;
+    }
+
+    public boolean contains(final int value) {
+        final int index = this.indexOf((char) (value >>> 16));
+        return index >= 0 && this.containers[index].contains((char) value);
+    }
+
+    public boolean remove(final int value) {
+        final int index = this.indexOf((char) (value >>> 16));
+        if (index < 0) {
+            return false;
+        }
+        final Container container = this.containers[index];
+        final int before = container.cardinality();
+        final Container updated = container.remove((char) value);
+        if (updated.cardinality() == before) {
+            return false;
+        }
+        this.size--;
+        if (updated.cardinality() == 0) {
+            this.removeContainer(index);
+        } else {
+            this.containers[index] = updated;
+        }
+        return true;
+    }
+
+    public void forEachInt(final @NotNull IntConsumer action) {
+        for (int i = 0; i < this.containerCount; i++) {
+            this.containers[i].forEach(this.keys[i] << 16, action);
+        }
+    }
+
+    public @NotNull PrimitiveIterator.OfInt intIterator() {
+        return new BitmapIterator();
+    }
+
+    public long getSizeInBytes() {
+        long bytes = (long) this.keys.length * Character.BYTES + (long) this.containers.length * Integer.BYTES;
+        for (int i = 0; i < this.containerCount; i++) {
+            bytes += this.containers[i].sizeInBytes();
+        }
+        return bytes;
+    }
+
+    public @NotNull IntBitmapSet copy() {
+        final IntBitmapSet copy = new IntBitmapSet();
+        copy.keys = Arrays.copyOf(this.keys, this.keys.length);
+        copy.containers = new Container[this.containers.length];
+        for (int i = 0; i < this.containerCount; i++) {
+            copy.containers[i] = this.containers[i].copy();
+        }
+        copy.containerCount = this.containerCount;
+        copy.size = this.size;
+        return copy;
+    }
+
+    public void writeTo(final @NotNull WritableByteChannel channel) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        buffer.putInt(MAGIC).putInt(this.containerCount);
+        for (int i = 0; i < this.containerCount; i++) {
+            final Container container = this.containers[i];
+            if (buffer.remaining() < Character.BYTES + 1 + Integer.BYTES + BITMAP_WORDS * Long.BYTES) {
+                flush(channel, buffer);
+            }
+            buffer.putChar(this.keys[i]);
+            container.write(buffer);
+        }
+        flush(channel, buffer);
+    }
+
+    public static @NotNull IntBitmapSet readFrom(final @NotNull ReadableByteChannel channel) throws IOException {
+        final ByteBuffer header = readFully(channel, ByteBuffer.allocate(Integer.BYTES << 1));
+        if (header.getInt() != MAGIC) {
+            throw new IOException("Not an IntBitmapSet stream");
+        }
+        final int count = header.getInt();
+        if (count < 0 || count > 1 << 16) {
+            throw new IOException("Invalid container count: " + count);
+        }
+        final IntBitmapSet set = new IntBitmapSet();
+        set.keys = new char[Math.max(4, count)];
+        set.containers = new Container[set.keys.length];
+        final ByteBuffer containerHeader = ByteBuffer.allocate(Character.BYTES + 1 + Integer.BYTES);
+        for (int i = 0; i < count; i++) {
+            readFully(channel, containerHeader.clear());
+            final char key = containerHeader.getChar();
+            final byte type = containerHeader.get();
+            final int cardinality = containerHeader.getInt();
+            if (i > 0 && key <= set.keys[i - 1]) {
+                throw new IOException("Container keys are not sorted");
+            }
+            final Container container;
+            if (type == ARRAY_TYPE && cardinality > 0 && cardinality <= ARRAY_LIMIT) {
+                final ByteBuffer payload = readFully(channel, ByteBuffer.allocate(cardinality * Character.BYTES));
+                final char[] values = new char[cardinality];
+                payload.asCharBuffer().get(values);
+                container = new ArrayContainer(values, cardinality);
+            } else if (type == BITMAP_TYPE && cardinality > ARRAY_LIMIT && cardinality <= 1 << 16) {
+                final ByteBuffer payload = readFully(channel, ByteBuffer.allocate(BITMAP_WORDS * Long.BYTES));
+                final long[] words = new long[BITMAP_WORDS];
+                payload.asLongBuffer().get(words);
+                container = new BitmapContainer(words, cardinality);
+            } else {
+                throw new IOException("Invalid container of type " + type + " with cardinality " + cardinality);
+            }
+            set.keys[i] = key;
+            set.containers[i] = container;
+            set.size += cardinality;
+        }
+        set.containerCount = count;
+        return set;
+    }
+
+    @Override
+    public boolean add(final @NotNull Integer value) {
+        return this.add(value.intValue());
+    }
+
+    @Override
+    public boolean contains(final Object value) {
+        return value instanceof Integer integer && this.contains(integer.intValue());
+    }
+
+    @Override
+    public boolean remove(final Object value) {
+        return value instanceof Integer integer && this.remove(integer.intValue());
+    }
+
+    @Override
+    public void clear() {
+        this.keys = new char[4];
+        this.containers = new Container[4];
+        this.containerCount = 0;
+        this.size = 0;
+    }
+
+    @Override
+    public @NotNull PrimitiveIterator.OfInt iterator() {
+        return this.intIterator();
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    private int indexOf(final char high) {
+        return Arrays.binarySearch(this.keys, 0, this.containerCount, high);
+    }
+
+    private void insertContainer(final int index, final char high, final @NotNull Container container) {
+        if (this.containerCount == this.keys.length) {
+            final int capacity = this.keys.length << 1;
+            this.keys = Arrays.copyOf(this.keys, capacity);
+            this.containers = Arrays.copyOf(this.containers, capacity);
+        }
+        System.arraycopy(this.keys, index, this.keys, index + 1, this.containerCount - index);
+        System.arraycopy(this.containers, index, this.containers, index + 1, this.containerCount - index);
+        this.keys[index] = high;
+        this.containers[index] = container;
+        this.containerCount++;
+    }
+
+    private void removeContainer(final int index) {
+        System.arraycopy(this.keys, index + 1, this.keys, index, this.containerCount - index - 1);
+        System.arraycopy(this.containers, index + 1, this.containers, index, this.containerCount - index - 1);
+        this.containerCount--;
+        this.containers[this.containerCount] = null;
+    }
+
+    private static void flush(final @NotNull WritableByteChannel channel, final @NotNull ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static @NotNull ByteBuffer readFully(final @NotNull ReadableByteChannel channel, final @NotNull ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Unexpected end of IntBitmapSet stream");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private abstract static class Container {
+
+        abstract int cardinality();
+
+        abstract boolean contains(final char value);
+
+        abstract @NotNull Container add(final char value);
+
+        abstract @NotNull Container remove(final char value);
+
+        abstract int nextFrom(final int value);
+
+        abstract void forEach(final int high, final @NotNull IntConsumer action);
+
+        abstract void write(final @NotNull ByteBuffer buffer);
+
+        abstract long sizeInBytes();
+
+        abstract @NotNull Container copy();
+
+    }
+
+    private static final class ArrayContainer extends Container {
+
+        private char[] values;
+        private int cardinality;
+
+        private ArrayContainer() {
+            this(new char[4], 0);
+        }
+
+        private ArrayContainer(final char @NotNull [] values, final int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality() {
+            return this.cardinality;
+        }
+
+        @Override
+        boolean contains(final char value) {
+            return Arrays.binarySearch(this.values, 0, this.cardinality, value) >= 0;
+        }
+
+        @Override
+        @NotNull Container add(final char value) {
+            int index = Arrays.binarySearch(this.values, 0, this.cardinality, value);
+            if (index >= 0) {
+                return this;
+            }
+            if (this.cardinality == ARRAY_LIMIT) {
+                return this.toBitmap().add(value);
+            }
+            index = -index - 1;
+            if (this.cardinality == this.values.length) {
+                this.values = Arrays.copyOf(this.values, Math.min(ARRAY_LIMIT, this.values.length << 1));
+            }
+            System.arraycopy(this.values, index, this.values, index + 1, this.cardinality - index);
+            this.values[index] = value;
+            this.cardinality++;
+            return this;
+        }
+
+        @Override
+        @NotNull Container remove(final char value) {
+            final int index = Arrays.binarySearch(this.values, 0, this.cardinality, value);
+            if (index >= 0) {
+                System.arraycopy(this.values, index + 1, this.values, index, this.cardinality - index - 1);
+                this.cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        int nextFrom(final int value) {
+            if (value > Character.MAX_VALUE) {
+                return -1;
+            }
+            int index = Arrays.binarySearch(this.values, 0, this.cardinality, (char) value);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            return index < this.cardinality ? this.values[index] : -1;
+        }
+
+        @Override
+        void forEach(final int high, final @NotNull IntConsumer action) {
+            for (int i = 0; i < this.cardinality; i++) {
+                action.accept(high | this.values[i]);
+            }
+        }
+
+        @Override
+        void write(final @NotNull ByteBuffer buffer) {
+            buffer.put(ARRAY_TYPE).putInt(this.cardinality);
+            for (int i = 0; i < this.cardinality; i++) {
+                buffer.putChar(this.values[i]);
+            }
+        }
+
+        @Override
+        long sizeInBytes() {
+            return (long) this.values.length * Character.BYTES;
+        }
+
+        @Override
+        @NotNull Container copy() {
+            return new ArrayContainer(Arrays.copyOf(this.values, this.values.length), this.cardinality);
+        }
+
+        private @NotNull BitmapContainer toBitmap() {
+            final long[] words = new long[BITMAP_WORDS];
+            for (int i = 0; i < this.cardinality; i++) {
+                words[this.values[i] >>> 6] |= 1L << this.values[i];
+            }
+            return new BitmapContainer(words, this.cardinality);
+        }
+
+    }
+
+    private static final class BitmapContainer extends Container {
+
+        private final long[] words;
+        private int cardinality;
+
+        private BitmapContainer(final long @NotNull [] words, final int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality() {
+            return this.cardinality;
+        }
+
+        @Override
+        boolean contains(final char value) {
+            return (this.words[value >>> 6] & (1L << value)) != 0L;
+        }
+
+        @Override
+        @NotNull Container add(final char value) {
+            final long word = this.words[value >>> 6];
+            final long updated = word | (1L << value);
+            if (word != updated) {
+                this.words[value >>> 6] = updated;
+                this.cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        @NotNull Container remove(final char value) {
+            final long word = this.words[value >>> 6];
+            final long updated = word & ~(1L << value);
+            if (word == updated) {
+                return this;
+            }
+            this.words[value >>> 6] = updated;
+            this.cardinality--;
+            return this.cardinality <= ARRAY_LIMIT ? this.toArray() : this;
+        }
+
+        @Override
+        int nextFrom(final int value) {
+            if (value > Character.MAX_VALUE) {
+                return -1;
+            }
+            int index = value >>> 6;
+            long word = this.words[index] & (-1L << value);
+            while (true) {
+                if (word != 0L) {
+                    return (index << 6) + Long.numberOfTrailingZeros(word);
+                }
+                if (++index == BITMAP_WORDS) {
+                    return -1;
+                }
+                word = this.words[index];
+            }
+        }
+
+        @Override
+        void forEach(final int high, final @NotNull IntConsumer action) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = this.words[i];
+                while (word != 0L) {
+                    action.accept(high | (i << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1L;
+                }
+            }
+        }
+
+        @Override
+        void write(final @NotNull ByteBuffer buffer) {
+            buffer.put(BITMAP_TYPE).putInt(this.cardinality);
+            for (final long word : this.words) {
+                buffer.putLong(word);
+            }
+        }
+
+        @Override
+        long sizeInBytes() {
+            return (long) BITMAP_WORDS * Long.BYTES;
+        }
+
+        @Override
+        @NotNull Container copy() {
+            return new BitmapContainer(Arrays.copyOf(this.words, BITMAP_WORDS), this.cardinality);
+        }
+
+        private @NotNull ArrayContainer toArray() {
+            final char[] values = new char[ARRAY_LIMIT];
+            final int[] index = new int[1];
+            this.forEach(0, value -> values[index[0]++] = (char) value);
+            return new ArrayContainer(values, this.cardinality);
+        }
+
+    }
+
+    private final class BitmapIterator implements PrimitiveIterator.OfInt {
+
+        private int container;
+        private int low;
+        private int next;
+        private boolean hasNext;
+
+        private BitmapIterator() {
+            this.advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.hasNext;
+        }
+
+        @Override
+        public int nextInt() {
+            if (!this.hasNext) {
+                throw new NoSuchElementException();
+            }
+            final int value = this.next;
+            this.advance();
+            return value;
+        }
+
+        private void advance() {
+            while (this.container < IntBitmapSet.this.containerCount) {
+                final int found = IntBitmapSet.this.containers[this.container].nextFrom(this.low);
+                if (found >= 0) {
+                    this.next = (IntBitmapSet.this.keys[this.container] << 16) | found;
+                    this.low = found + 1;
+                    this.hasNext = true;
+                    return;
+                }
+                this.container++;
+                this.low = 0;
+            }
+            this.hasNext = false;
+        }
+
+    }
+
+}
\ No newline at end of file
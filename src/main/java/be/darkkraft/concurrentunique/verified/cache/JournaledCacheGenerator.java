@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.verified.cache;
+
+import be.darkkraft.concurrentunique.metrics.MetricsSink;
+import be.darkkraft.concurrentunique.verified.VerifiedGenerator;
+import be.darkkraft.concurrentunique.verified.reservation.ReservingGenerator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+public final class JournaledCacheGenerator<T> implements VerifiedGenerator<T>, Closeable {
+
+    private final FullCacheGenerator<T> cache;
+    private final CacheJournal<T> journal;
+    private final boolean guarded;
+
+    JournaledCacheGenerator(final @NotNull FullCacheGenerator<T> cache, final @NotNull CacheJournal<T> journal) {
+        this.cache = Objects.requireNonNull(cache, "cache must not be null");
+        this.journal = Objects.requireNonNull(journal, "journal must not be null");
+        this.guarded = !(cache instanceof ConcurrentFullCacheGenerator);
+    }
+
+    @Override
+    public @Nullable T generate(final int maxRetry, final @NotNull MetricsSink sink) {
+        final T generated;
+        if (this.guarded) {
+            synchronized (this.cache) {
+                generated = this.cache.generate(maxRetry, sink);
+            }
+        } else {
+            generated = this.cache.generate(maxRetry, sink);
+        }
+        if (generated != null) {
+            try {
+                this.journal.append(generated);
+            } catch (final IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+        return generated;
+    }
+
+    @Override
+    public @Nullable T regenerate() {
+        return this.cache.regenerate();
+    }
+
+    @Override
+    public boolean isAlreadyExists(final @NotNull T generated) {
+        return this.cache.isAlreadyExists(generated);
+    }
+
+    @Override
+    public int getMaxRetry() {
+        return this.cache.getMaxRetry();
+    }
+
+    @Override
+    public @NotNull ReservingGenerator<T> toReserving(final @NotNull Duration timeout) {
+        return new ReservingGenerator<>(new CacheReservationStore<>(this.cache, this.journal), timeout);
+    }
+
+    public void snapshot() throws IOException {
+        this.journal.snapshot(() -> this.copyKeys().iterator());
+    }
+
+    public @NotNull ScheduledFuture<?> scheduleSnapshots(final @NotNull ScheduledExecutorService executor, final @NotNull Duration period) {
+        Objects.requireNonNull(executor, "executor must not be null");
+        Objects.requireNonNull(period, "period must not be null");
+        final long nanos = period.toNanos();
+        return executor.scheduleWithFixedDelay(() -> {
+            try {
+                this.snapshot();
+            } catch (final IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }, nanos, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public @NotNull CacheJournal<T> getJournal() {
+        return this.journal;
+    }
+
+    private @NotNull Collection<T> copyKeys() {
+        if (!this.guarded) {
+            return this.cache.keysView();
+        }
+        synchronized (this.cache) {
+            return new ArrayList<>(this.cache.keysView());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.journal.close();
+    }
+
+}
\ No newline at end of file
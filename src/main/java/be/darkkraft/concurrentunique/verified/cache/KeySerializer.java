@@ -0,0 +1,56 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.verified.cache;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+public interface KeySerializer<T> {
+
+    static @NotNull KeySerializer<Integer> integers() {
+        return KeySerializers.INTEGER;
+    }
+
+    static @NotNull KeySerializer<Long> longs() {
+        return KeySerializers.LONG;
+    }
+
+    static @NotNull KeySerializer<UUID> uuids() {
+        return KeySerializers.UUID;
+    }
+
+    static @NotNull KeySerializer<String> strings() {
+        return KeySerializers.STRING;
+    }
+
+    int sizeOf(final @NotNull T key);
+
+    void write(final @NotNull T key, final @NotNull ByteBuffer buffer);
+
+    @NotNull T read(final @NotNull ByteBuffer buffer);
+
+}
\ No newline at end of file
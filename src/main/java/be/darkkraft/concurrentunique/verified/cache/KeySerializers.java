@@ -0,0 +1,134 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.verified.cache;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+final class KeySerializers {
+
+    static final KeySerializer<Integer> INTEGER = new KeySerializer<>() {
+        @Override
+        public int sizeOf(final @NotNull Integer key) {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void write(final @NotNull Integer key, final @NotNull ByteBuffer buffer) {
+            buffer.putInt(key);
+        }
+
+        @Override
+        public @NotNull Integer read(final @NotNull ByteBuffer buffer) {
+            return buffer.getInt();
+        }
+    };
+
+    static final KeySerializer<Long> LONG = new KeySerializer<>() {
+        @Override
+        public int sizeOf(final @NotNull Long key) {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(final @NotNull Long key, final @NotNull ByteBuffer buffer) {
+            buffer.putLong(key);
+        }
+
+        @Override
+        public @NotNull Long read(final @NotNull ByteBuffer buffer) {
+            return buffer.getLong();
+        }
+    };
+
+    static final KeySerializer<java.util.UUID> UUID = new KeySerializer<>() {
+        @Override
+        public int sizeOf(final java.util.@NotNull UUID key) {
+            return Long.BYTES << 1;
+        }
+
+        @Override
+        public void write(final java.util.@NotNull UUID key, final @NotNull ByteBuffer buffer) {
+            buffer.putLong(key.getMostSignificantBits()).putLong(key.getLeastSignificantBits());
+        }
+
+        @Override
+        public java.util.@NotNull UUID read(final @NotNull ByteBuffer buffer) {
+            return new java.util.UUID(buffer.getLong(), buffer.getLong());
+        }
+    };
+
+    static final KeySerializer<String> STRING = new KeySerializer<>() {
+        @Override
+        public int sizeOf(final @NotNull String key) {
+            int size = 0;
+            for (int i = 0; i < key.length(); i++) {
+                final char c = key.charAt(i);
+                if (c < 0x80) {
+                    size++;
+                } else if (c < 0x800) {
+                    size += 2;
+                } else if (Character.isSurrogate(c)) {
+                    if (!Character.isHighSurrogate(c) || i + 1 >= key.length() || !Character.isLowSurrogate(key.charAt(i + 1))) {
+                        throw new IllegalArgumentException("Key has an unpaired surrogate at index " + i);
+                    }
+                    size += 4;
+                    i++;
+                } else {
+                    size += 3;
+                }
+            }
+            return size;
+        }
+
+        @Override
+        public void write(final @NotNull String key, final @NotNull ByteBuffer buffer) {
+            try {
+                buffer.put(StandardCharsets.UTF_8.newEncoder()
+                        .onMalformedInput(CodingErrorAction.REPORT)
+                        .onUnmappableCharacter(CodingErrorAction.REPORT)
+                        .encode(CharBuffer.wrap(key)));
+            } catch (final CharacterCodingException e) {
+                throw new IllegalArgumentException("Key is not valid UTF-16", e);
+            }
+        }
+
+        @Override
+        public @NotNull String read(final @NotNull ByteBuffer buffer) {
+            final String key = StandardCharsets.UTF_8.decode(buffer).toString();
+            buffer.position(buffer.limit());
+            return key;
+        }
+    };
+
+    private KeySerializers() {
+    }
+
+}
\ No newline at end of file
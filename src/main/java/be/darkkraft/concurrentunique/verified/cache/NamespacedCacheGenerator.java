@@ -0,0 +1,274 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.verified.cache;
+
+import be.darkkraft.concurrentunique.UniqueGenerator;
+import be.darkkraft.concurrentunique.jfr.CollisionEvent;
+import be.darkkraft.concurrentunique.jfr.GenerateEvent;
+import be.darkkraft.concurrentunique.metrics.MetricsSink;
+import be.darkkraft.concurrentunique.verified.VerifiedGenerator;
+import be.darkkraft.concurrentunique.verified.reservation.ReservationStore;
+import be.darkkraft.concurrentunique.verified.reservation.ReservingGenerator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+public final class NamespacedCacheGenerator<T> {
+
+    static final long ENTRY_OVERHEAD = 64L;
+    static final long DEFAULT_KEY_SIZE = 16L;
+
+    private static final AtomicReferenceFieldUpdater<Namespace, Generation> GENERATION =
+            AtomicReferenceFieldUpdater.newUpdater(Namespace.class, Generation.class, "generation");
+
+    private final UniqueGenerator<T> delegate;
+    private final int maxRetry;
+    private final ToLongFunction<? super T> sizeEstimator;
+    private final ConcurrentHashMap<NamespacedKey<T>, Boolean> table = new ConcurrentHashMap<>();
+    private final Map<String, NamespaceGenerator> namespaces = new ConcurrentHashMap<>();
+    private final Map<Integer, Namespace> namespacesById = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    public NamespacedCacheGenerator(final @NotNull UniqueGenerator<T> delegate, final int maxRetry) {
+        this(delegate, maxRetry, key -> DEFAULT_KEY_SIZE);
+    }
+
+    public NamespacedCacheGenerator(final @NotNull UniqueGenerator<T> delegate,
+                                    final int maxRetry,
+                                    final @NotNull ToLongFunction<? super T> sizeEstimator) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        this.sizeEstimator = Objects.requireNonNull(sizeEstimator, "sizeEstimator must not be null");
+        this.maxRetry = maxRetry;
+    }
+
+    public @NotNull VerifiedGenerator<T> namespace(final @NotNull String namespace) {
+        Objects.requireNonNull(namespace, "namespace must not be null");
+        return this.namespaces.computeIfAbsent(namespace, name -> {
+            final Namespace created = new Namespace(name, this.nextId.getAndIncrement());
+            this.namespacesById.put(created.id, created);
+            return new NamespaceGenerator(created);
+        });
+    }
+
+    public void evict(final @NotNull String namespace) {
+        final Namespace found = this.find(namespace);
+        if (found == null) {
+            return;
+        }
+        GENERATION.getAndUpdate(found, evicted -> new Generation(evicted.epoch + 1));
+        if (this.getStaleCount() * 2L >= this.table.size()) {
+            this.compact();
+        }
+    }
+
+    public int compact() {
+        final int before = this.table.size();
+        this.table.keySet().removeIf(this::isStale);
+        return Math.max(0, before - this.table.size());
+    }
+
+    public long getStaleCount() {
+        long live = 0L;
+        for (final Namespace namespace : this.namespacesById.values()) {
+            live += namespace.generation.count.sum();
+        }
+        return Math.max(0L, this.table.size() - live);
+    }
+
+    public long size(final @NotNull String namespace) {
+        final Namespace found = this.find(namespace);
+        return found != null ? found.generation.count.sum() : 0L;
+    }
+
+    public long getMemoryEstimate(final @NotNull String namespace) {
+        final Namespace found = this.find(namespace);
+        return found != null ? found.generation.bytes.sum() : 0L;
+    }
+
+    @Unmodifiable
+    public @NotNull Set<String> getNamespaces() {
+        return Set.copyOf(this.namespaces.keySet());
+    }
+
+    public int getTableSize() {
+        return this.table.size();
+    }
+
+    private @Nullable Namespace find(final @NotNull String namespace) {
+        final NamespaceGenerator found = this.namespaces.get(Objects.requireNonNull(namespace, "namespace must not be null"));
+        return found != null ? found.namespace : null;
+    }
+
+    private boolean isStale(final @NotNull NamespacedKey<T> key) {
+        final Namespace namespace = this.namespacesById.get(key.namespace());
+        return namespace == null || namespace.generation.epoch != key.epoch();
+    }
+
+    private record NamespacedKey<T>(int namespace, int epoch, @NotNull T id) {
+    }
+
+    private static final class Generation {
+
+        private final int epoch;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+
+        private Generation(final int epoch) {
+            this.epoch = epoch;
+        }
+
+    }
+
+    private static final class Namespace {
+
+        private final String name;
+        private final int id;
+        private volatile Generation generation = new Generation(0);
+
+        private Namespace(final @NotNull String name, final int id) {
+            this.name = name;
+            this.id = id;
+        }
+
+    }
+
+    private final class NamespaceGenerator implements VerifiedGenerator<T> {
+
+        private final Namespace namespace;
+
+        private NamespaceGenerator(final @NotNull Namespace namespace) {
+            this.namespace = namespace;
+        }
+
+        @Override
+        public @Nullable T generate(final int maxRetry, final @NotNull MetricsSink sink) {
+            final GenerateEvent event = GenerateEvent.start();
+            int remaining = Math.max(maxRetry, 1);
+            int retries = 0;
+            while (true) {
+                final T generated = this.regenerate();
+                if (generated != null) {
+                    if (this.claim(generated)) {
+                        GenerateEvent.finish(event, this, retries, false);
+                        return generated;
+                    }
+                    sink.onCollision();
+                    CollisionEvent.emit(this, retries);
+                }
+                if (--remaining <= 0) {
+                    sink.onExhausted();
+                    GenerateEvent.finish(event, this, retries, true);
+                    return null;
+                }
+                sink.onRetry();
+                retries++;
+            }
+        }
+
+        @Override
+        public @Nullable T regenerate() {
+            return NamespacedCacheGenerator.this.delegate.generate();
+        }
+
+        @Override
+        public boolean isAlreadyExists(final @NotNull T generated) {
+            return NamespacedCacheGenerator.this.table.containsKey(new NamespacedKey<>(this.namespace.id, this.namespace.generation.epoch, generated));
+        }
+
+        @Override
+        public int getMaxRetry() {
+            return NamespacedCacheGenerator.this.maxRetry;
+        }
+
+        @Override
+        public @NotNull ReservingGenerator<T> toReserving(final @NotNull Duration timeout) {
+            return new ReservingGenerator<>(new ReservationStore<>() {
+                @Override
+                public T candidate() {
+                    return NamespaceGenerator.this.regenerate();
+                }
+
+                @Override
+                public boolean claim(final @NotNull T value) {
+                    return NamespaceGenerator.this.claim(value);
+                }
+
+                @Override
+                public void commit(final @NotNull T value) {
+                }
+
+                @Override
+                public void release(final @NotNull T value) {
+                    NamespaceGenerator.this.unclaim(value);
+                }
+
+                @Override
+                public int getMaxRetry() {
+                    return NamespacedCacheGenerator.this.maxRetry;
+                }
+            }, timeout);
+        }
+
+        @Override
+        public @NotNull VerifiedGenerator<T> synchronize() {
+            return this;
+        }
+
+        private boolean claim(final @NotNull T value) {
+            final Generation generation = this.namespace.generation;
+            if (NamespacedCacheGenerator.this.table.putIfAbsent(new NamespacedKey<>(this.namespace.id, generation.epoch, value), Boolean.TRUE) != null) {
+                return false;
+            }
+            generation.count.increment();
+            generation.bytes.add(ENTRY_OVERHEAD + NamespacedCacheGenerator.this.sizeEstimator.applyAsLong(value));
+            return true;
+        }
+
+        private void unclaim(final @NotNull T value) {
+            final Generation generation = this.namespace.generation;
+            if (NamespacedCacheGenerator.this.table.remove(new NamespacedKey<>(this.namespace.id, generation.epoch, value)) != null) {
+                generation.count.decrement();
+                generation.bytes.add(-(ENTRY_OVERHEAD + NamespacedCacheGenerator.this.sizeEstimator.applyAsLong(value)));
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "NamespaceGenerator[" + this.namespace.name + "]";
+        }
+
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.verified.cache;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Objects;
+import java.util.zip.CRC32C;
+
+final class RecordReader {
+
+    static final int MAX_RECORD_SIZE = 1 << 26;
+
+    private final ReadableByteChannel channel;
+    private final CRC32C checksum = new CRC32C();
+    private ByteBuffer buffer;
+    private boolean endOfStream;
+    private boolean clean = true;
+    private long validLength;
+
+    RecordReader(final @NotNull ReadableByteChannel channel, final int bufferSize) {
+        this.channel = Objects.requireNonNull(channel, "channel must not be null");
+        this.buffer = ByteBuffer.allocateDirect(bufferSize).flip();
+    }
+
+    <T> @Nullable T read(final @NotNull KeySerializer<T> serializer) throws IOException {
+        if (!this.clean || !this.fill(RecordWriter.HEADER_SIZE)) {
+            return null;
+        }
+        final int start = this.buffer.position();
+        final int size = this.buffer.getInt(start);
+        if (size < 0 || size > MAX_RECORD_SIZE) {
+            this.clean = false;
+            return null;
+        }
+        if (!this.fill(RecordWriter.HEADER_SIZE + size + RecordWriter.TRAILER_SIZE)) {
+            return null;
+        }
+        final int payload = this.buffer.position() + RecordWriter.HEADER_SIZE;
+        this.checksum.reset();
+        this.checksum.update(this.buffer.duplicate().limit(payload + size).position(payload));
+        if ((int) this.checksum.getValue() != this.buffer.getInt(payload + size)) {
+            this.clean = false;
+            return null;
+        }
+        final T key = serializer.read(this.buffer.slice(payload, size));
+        this.buffer.position(payload + size + RecordWriter.TRAILER_SIZE);
+        this.validLength += RecordWriter.HEADER_SIZE + size + RecordWriter.TRAILER_SIZE;
+        return key;
+    }
+
+    boolean isClean() {
+        return this.clean;
+    }
+
+    long getValidLength() {
+        return this.validLength;
+    }
+
+    private boolean fill(final int required) throws IOException {
+        while (this.buffer.remaining() < required) {
+            if (this.endOfStream) {
+                if (this.buffer.hasRemaining()) {
+                    this.clean = false;
+                }
+                return false;
+            }
+            if (this.buffer.capacity() < required) {
+                final ByteBuffer grown = ByteBuffer.allocateDirect(Math.max(required, this.buffer.capacity() << 1));
+                this.buffer = grown.put(this.buffer).flip();
+            }
+            this.buffer.compact();
+            final int read = this.channel.read(this.buffer);
+            this.buffer.flip();
+            if (read < 0) {
+                this.endOfStream = true;
+            }
+        }
+        return true;
+    }
+
+}
\ No newline at end of file
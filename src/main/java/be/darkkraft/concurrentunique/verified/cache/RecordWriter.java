@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.verified.cache;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+import java.util.zip.CRC32C;
+
+final class RecordWriter {
+
+    static final int HEADER_SIZE = Integer.BYTES;
+    static final int TRAILER_SIZE = Integer.BYTES;
+
+    private final WritableByteChannel channel;
+    private final CRC32C checksum = new CRC32C();
+    private ByteBuffer buffer;
+    private long written;
+
+    RecordWriter(final @NotNull WritableByteChannel channel, final int bufferSize) {
+        this.channel = Objects.requireNonNull(channel, "channel must not be null");
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    <T> void write(final @NotNull T key, final @NotNull KeySerializer<T> serializer) throws IOException {
+        final int size = serializer.sizeOf(key);
+        final int recordSize = HEADER_SIZE + size + TRAILER_SIZE;
+        if (this.buffer.remaining() < recordSize) {
+            this.flush();
+            if (this.buffer.capacity() < recordSize) {
+                this.buffer = ByteBuffer.allocateDirect(recordSize);
+            }
+        }
+        final int start = this.buffer.position();
+        this.buffer.putInt(size);
+        try {
+            serializer.write(key, this.buffer);
+        } catch (final RuntimeException | Error exception) {
+            this.buffer.position(start);
+            throw exception;
+        }
+        final int end = this.buffer.position();
+        if (end - start - HEADER_SIZE != size) {
+            this.buffer.position(start);
+            throw new IllegalStateException("Serializer wrote " + (end - start - HEADER_SIZE) + " bytes but declared " + size);
+        }
+        this.checksum.reset();
+        this.checksum.update(this.buffer.duplicate().limit(end).position(start + HEADER_SIZE));
+        this.buffer.putInt((int) this.checksum.getValue());
+    }
+
+    void flush() throws IOException {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining()) {
+            this.written += this.channel.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+
+    long getWritten() {
+        return this.written + this.buffer.position();
+    }
+
+}
\ No newline at end of file
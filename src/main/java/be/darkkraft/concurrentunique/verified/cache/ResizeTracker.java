@@ -0,0 +1,132 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.verified.cache;
+
+import be.darkkraft.concurrentunique.jfr.CacheResizeEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+final class ResizeTracker {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private final ResizeListener listener;
+    private final float loadFactor;
+    private final int concurrencyLevel;
+    private final boolean concurrent;
+    private int capacity;
+    private int threshold;
+
+    private ResizeTracker(final @NotNull ResizeListener listener,
+                          final float loadFactor,
+                          final int concurrencyLevel,
+                          final boolean concurrent,
+                          final int expectedSize) {
+        this.listener = Objects.requireNonNull(listener, "listener must not be null");
+        this.loadFactor = loadFactor;
+        this.concurrencyLevel = concurrencyLevel;
+        this.concurrent = concurrent;
+        this.reset(expectedSize);
+    }
+
+    static @NotNull ResizeTracker sequential(final @NotNull ResizeListener listener, final float loadFactor, final int expectedSize) {
+        return new ResizeTracker(listener, loadFactor, 1, false, expectedSize);
+    }
+
+    static @NotNull ResizeTracker concurrent(final @NotNull ResizeListener listener,
+                                             final float loadFactor,
+                                             final int concurrencyLevel,
+                                             final int expectedSize) {
+        return new ResizeTracker(listener, loadFactor, concurrencyLevel, true, expectedSize);
+    }
+
+    void reset(final int expectedSize) {
+        final long required;
+        if (this.concurrent) {
+            required = expectedSize <= 0 && this.concurrencyLevel <= 1
+                    ? DEFAULT_CAPACITY
+                    : (long) (1.0D + Math.max(Math.max(expectedSize, 1), this.concurrencyLevel) / (double) this.loadFactor);
+        } else {
+            required = expectedSize <= 0 ? DEFAULT_CAPACITY : (long) Math.ceil(expectedSize / (double) this.loadFactor);
+        }
+        this.capacity = tableSizeFor(required);
+        this.threshold = this.thresholdOf(this.capacity);
+    }
+
+    void onSize(final int size) {
+        if (!this.exceeds(size)) {
+            return;
+        }
+        final int previous = this.capacity;
+        while (this.exceeds(size) && this.capacity < MAXIMUM_CAPACITY) {
+            this.grow();
+        }
+        this.listener.onResize(previous, this.capacity, size);
+        CacheResizeEvent.emit(previous, this.capacity, size);
+    }
+
+    int getCapacity() {
+        return this.capacity;
+    }
+
+    int getThreshold() {
+        return this.threshold;
+    }
+
+    private boolean exceeds(final int size) {
+        return this.concurrent ? size >= this.threshold : size > this.threshold;
+    }
+
+    private void grow() {
+        final int previous = this.capacity;
+        this.capacity = previous << 1;
+        if (!this.concurrent && this.capacity < MAXIMUM_CAPACITY && previous >= DEFAULT_CAPACITY) {
+            this.threshold <<= 1;
+        } else {
+            this.threshold = this.thresholdOf(this.capacity);
+        }
+    }
+
+    private int thresholdOf(final int capacity) {
+        if (capacity >= MAXIMUM_CAPACITY) {
+            return Integer.MAX_VALUE;
+        }
+        if (this.concurrent) {
+            return capacity - (capacity >>> 2);
+        }
+        final float threshold = capacity * this.loadFactor;
+        return threshold < (float) MAXIMUM_CAPACITY ? (int) threshold : Integer.MAX_VALUE;
+    }
+
+    private static int tableSizeFor(final long required) {
+        if (required >= MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+        return required <= 1L ? 1 : Integer.highestOneBit((int) required - 1) << 1;
+    }
+
+}
\ No newline at end of file
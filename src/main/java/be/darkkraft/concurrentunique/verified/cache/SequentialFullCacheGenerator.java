@@ -28,11 +28,32 @@ import be.darkkraft.concurrentunique.UniqueGenerator;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.HashSet;
+import java.util.Set;
+import java.util.function.IntFunction;
 
 public final class SequentialFullCacheGenerator<T> extends FullCacheGenerator<T> {
 
     public SequentialFullCacheGenerator(final @NotNull UniqueGenerator<T> delegate, final int maxRetry) {
-        super(delegate, new HashSet<>(), maxRetry);
+        this(delegate, maxRetry, FullCacheGeneratorBuilder.DEFAULT_LOAD_FACTOR);
+    }
+
+    SequentialFullCacheGenerator(final @NotNull UniqueGenerator<T> delegate, final int maxRetry, final float loadFactor) {
+        super(delegate, expectedSize -> newKeySet(expectedSize, loadFactor), maxRetry);
+    }
+
+    private SequentialFullCacheGenerator(final @NotNull UniqueGenerator<T> delegate,
+                                         final @NotNull IntFunction<Set<T>> keySetFactory,
+                                         final int maxRetry) {
+        super(delegate, keySetFactory, maxRetry);
+    }
+
+    public static @NotNull SequentialFullCacheGenerator<Integer> bitmap(final @NotNull UniqueGenerator<Integer> delegate, final int maxRetry) {
+        return new SequentialFullCacheGenerator<>(delegate, expectedSize -> new IntBitmapSet(), maxRetry);
+    }
+
+    private static <T> @NotNull Set<T> newKeySet(final int expectedSize, final float loadFactor) {
+        final int capacity = expectedSize <= 0 ? 16 : (int) Math.min(Integer.MAX_VALUE, (long) Math.ceil(expectedSize / (double) loadFactor));
+        return new HashSet<>(capacity, loadFactor);
     }
 
 }
\ No newline at end of file
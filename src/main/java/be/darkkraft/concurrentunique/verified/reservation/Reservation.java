@@ -0,0 +1,121 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.verified.reservation;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class Reservation<T> implements AutoCloseable {
+
+    private static final int ACTIVE = 0;
+    private static final int COMMITTED = 1;
+    private static final int RELEASED = 2;
+
+    private final ReservingGenerator<T> owner;
+    private final T value;
+    private final long deadline;
+    private final AtomicInteger state = new AtomicInteger(ACTIVE);
+
+    Reservation(final @NotNull ReservingGenerator<T> owner, final @NotNull T value, final long deadline) {
+        this.owner = Objects.requireNonNull(owner, "owner must not be null");
+        this.value = Objects.requireNonNull(value, "value must not be null");
+        this.deadline = deadline;
+    }
+
+    public @NotNull T getValue() {
+        return this.value;
+    }
+
+    public boolean commit() {
+        if (this.isExpired(System.nanoTime())) {
+            this.release();
+            return false;
+        }
+        if (!this.state.compareAndSet(ACTIVE, COMMITTED)) {
+            return false;
+        }
+        try {
+            this.owner.committed(this);
+        } catch (final RuntimeException | Error throwable) {
+            this.state.set(RELEASED);
+            this.owner.released(this);
+            throw throwable;
+        }
+        return true;
+    }
+
+    public boolean rollback() {
+        return this.release();
+    }
+
+    public boolean isActive() {
+        return this.state.get() == ACTIVE && !this.isExpired(System.nanoTime());
+    }
+
+    public boolean isCommitted() {
+        return this.state.get() == COMMITTED;
+    }
+
+    public long getRemainingNanos() {
+        return this.state.get() == ACTIVE ? Math.max(0L, this.deadline - System.nanoTime()) : 0L;
+    }
+
+    @Override
+    public void close() {
+        this.release();
+    }
+
+    boolean expire(final long now) {
+        final int current = this.state.get();
+        if (current == COMMITTED || (current == ACTIVE && !this.isExpired(now))) {
+            return false;
+        }
+        if (!this.release()) {
+            this.owner.remove(this);
+        }
+        return true;
+    }
+
+    private boolean isExpired(final long now) {
+        return now - this.deadline >= 0L;
+    }
+
+    void abandon() {
+        if (this.state.compareAndSet(ACTIVE, RELEASED)) {
+            this.owner.remove(this);
+        }
+    }
+
+    private boolean release() {
+        if (!this.state.compareAndSet(ACTIVE, RELEASED)) {
+            return false;
+        }
+        this.owner.released(this);
+        return true;
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,165 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.verified.reservation;
+
+import be.darkkraft.concurrentunique.jfr.CollisionEvent;
+import be.darkkraft.concurrentunique.jfr.GenerateEvent;
+import be.darkkraft.concurrentunique.metrics.MetricsSink;
+import be.darkkraft.concurrentunique.verified.VerifiedGenerator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+public final class ReservingGenerator<T> {
+
+    private final ReservationStore<T> store;
+    private final long timeoutNanos;
+    private final ConcurrentMap<T, Reservation<T>> reservations = new ConcurrentHashMap<>();
+
+    public ReservingGenerator(final @NotNull VerifiedGenerator<T> source, final @NotNull Duration timeout) {
+        this(source, timeout, value -> {
+        });
+    }
+
+    public ReservingGenerator(final @NotNull VerifiedGenerator<T> source,
+                              final @NotNull Duration timeout,
+                              final @NotNull Consumer<? super T> commitListener) {
+        this(ReservationStore.verified(source, commitListener), timeout);
+    }
+
+    public ReservingGenerator(final @NotNull ReservationStore<T> store, final @NotNull Duration timeout) {
+        this.store = Objects.requireNonNull(store, "store must not be null");
+        Objects.requireNonNull(timeout, "timeout must not be null");
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Timeout must be positive: " + timeout);
+        }
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    public @Nullable Reservation<T> reserve() {
+        return this.reserve(this.store.getMaxRetry(), MetricsSink.noop());
+    }
+
+    public @Nullable Reservation<T> reserve(final int maxRetry, final @NotNull MetricsSink sink) {
+        final GenerateEvent event = GenerateEvent.start();
+        int remaining = Math.max(maxRetry, 1);
+        int retries = 0;
+        while (true) {
+            final T candidate = this.store.candidate();
+            if (candidate != null) {
+                final Reservation<T> reservation = this.tryReserve(candidate);
+                if (reservation != null) {
+                    if (this.store.claim(candidate)) {
+                        GenerateEvent.finish(event, this, retries, false);
+                        return reservation;
+                    }
+                    reservation.abandon();
+                }
+                sink.onCollision();
+                CollisionEvent.emit(this, retries);
+            }
+            if (--remaining <= 0) {
+                sink.onExhausted();
+                GenerateEvent.finish(event, this, retries, true);
+                return null;
+            }
+            sink.onRetry();
+            retries++;
+        }
+    }
+
+    public boolean isReserved(final @NotNull T value) {
+        final Reservation<T> reservation = this.reservations.get(value);
+        return reservation != null && reservation.isActive();
+    }
+
+    public @NotNull ReservationStore<T> getStore() {
+        return this.store;
+    }
+
+    public int getReservedCount() {
+        return this.reservations.size();
+    }
+
+    public @NotNull Duration getTimeout() {
+        return Duration.ofNanos(this.timeoutNanos);
+    }
+
+    public int sweep() {
+        final long now = System.nanoTime();
+        int expired = 0;
+        for (final Reservation<T> reservation : this.reservations.values()) {
+            if (reservation.expire(now)) {
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    public @NotNull ScheduledFuture<?> scheduleSweeps(final @NotNull ScheduledExecutorService executor, final @NotNull Duration period) {
+        Objects.requireNonNull(executor, "executor must not be null");
+        Objects.requireNonNull(period, "period must not be null");
+        final long nanos = period.toNanos();
+        return executor.scheduleWithFixedDelay(this::sweep, nanos, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    void committed(final @NotNull Reservation<T> reservation) {
+        this.store.commit(reservation.getValue());
+        this.remove(reservation);
+    }
+
+    void released(final @NotNull Reservation<T> reservation) {
+        try {
+            this.store.release(reservation.getValue());
+        } finally {
+            this.remove(reservation);
+        }
+    }
+
+    void remove(final @NotNull Reservation<T> reservation) {
+        this.reservations.remove(reservation.getValue(), reservation);
+    }
+
+    private @Nullable Reservation<T> tryReserve(final @NotNull T candidate) {
+        final long now = System.nanoTime();
+        final Reservation<T> reservation = new Reservation<>(this, candidate, now + this.timeoutNanos);
+        Reservation<T> existing;
+        while ((existing = this.reservations.putIfAbsent(candidate, reservation)) != null) {
+            if (!existing.expire(now)) {
+                return null;
+            }
+        }
+        return reservation;
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.verified.reservation;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+record SynchronizedReservationStore<T>(@NotNull ReservationStore<T> delegate, @NotNull Object monitor) implements ReservationStore<T> {
+
+    SynchronizedReservationStore {
+        Objects.requireNonNull(delegate, "delegate must not be null");
+        Objects.requireNonNull(monitor, "monitor must not be null");
+    }
+
+    @Override
+    public @Nullable T candidate() {
+        synchronized (this.monitor) {
+            return this.delegate.candidate();
+        }
+    }
+
+    @Override
+    public boolean claim(final @NotNull T value) {
+        synchronized (this.monitor) {
+            return this.delegate.claim(value);
+        }
+    }
+
+    @Override
+    public void commit(final @NotNull T value) {
+        synchronized (this.monitor) {
+            this.delegate.commit(value);
+        }
+    }
+
+    @Override
+    public void release(final @NotNull T value) {
+        synchronized (this.monitor) {
+            this.delegate.release(value);
+        }
+    }
+
+    @Override
+    public int getMaxRetry() {
+        return this.delegate.getMaxRetry();
+    }
+
+}
\ No newline at end of file
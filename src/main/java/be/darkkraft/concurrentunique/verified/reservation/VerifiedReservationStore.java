@@ -0,0 +1,66 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.verified.reservation;
+
+import be.darkkraft.concurrentunique.verified.VerifiedGenerator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+record VerifiedReservationStore<T>(@NotNull VerifiedGenerator<T> source, @NotNull Consumer<? super T> commitListener)
+        implements ReservationStore<T> {
+
+    VerifiedReservationStore {
+        Objects.requireNonNull(source, "source must not be null");
+        Objects.requireNonNull(commitListener, "commitListener must not be null");
+    }
+
+    @Override
+    public @Nullable T candidate() {
+        return this.source.regenerate();
+    }
+
+    @Override
+    public boolean claim(final @NotNull T value) {
+        return !this.source.isAlreadyExists(value);
+    }
+
+    @Override
+    public void commit(final @NotNull T value) {
+        this.commitListener.accept(value);
+    }
+
+    @Override
+    public void release(final @NotNull T value) {
+    }
+
+    @Override
+    public int getMaxRetry() {
+        return this.source.getMaxRetry();
+    }
+
+}
\ No newline at end of file
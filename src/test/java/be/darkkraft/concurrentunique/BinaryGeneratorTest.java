@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique;
+
+import be.darkkraft.concurrentunique.generator.number.IntegerIncrementerGenerator;
+import be.darkkraft.concurrentunique.generator.number.LongIncrementerGenerator;
+import be.darkkraft.concurrentunique.generator.string.AlphanumericGenerator;
+import be.darkkraft.concurrentunique.generator.uuid.UUIDGenerator;
+import be.darkkraft.concurrentunique.supplier.RandomGeneratorSupplier;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryGeneratorTest {
+
+    @Test
+    void testUuid() {
+        final UUIDGenerator generator = UUIDGenerator.build(RandomGeneratorSupplier.Type.FAST_SEQUENTIAL);
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(16 * 10);
+        assertEquals(16 * 10, generator.generateInto(buffer, 10));
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            final UUID uuid = new UUID(buffer.getLong(), buffer.getLong());
+            assertEquals(4, uuid.version());
+            assertEquals(2, uuid.variant());
+        }
+    }
+
+    @Test
+    void testAlphanumeric() {
+        final AlphanumericGenerator generator = AlphanumericGenerator.build(8, RandomGeneratorSupplier.Type.FAST_SEQUENTIAL);
+        final ByteBuffer buffer = ByteBuffer.allocate(8 * 5);
+        generator.generateInto(buffer, 4);
+        generator.writeTo(buffer);
+        assertEquals(0, buffer.remaining());
+        assertTrue(new String(buffer.array(), StandardCharsets.US_ASCII).matches("[A-Za-z0-9]{40}"));
+    }
+
+    @Test
+    void testIncrementers() {
+        final LongIncrementerGenerator longGenerator = new LongIncrementerGenerator();
+        final ByteBuffer longs = ByteBuffer.allocate(Long.BYTES * 4);
+        longGenerator.writeTo(longs);
+        longGenerator.generateInto(longs, 3);
+        longs.flip();
+        for (long expected = 1L; expected <= 4L; expected++) {
+            assertEquals(expected, longs.getLong());
+        }
+        assertEquals(5L, longGenerator.generateLong());
+
+        final IntegerIncrementerGenerator integerGenerator = new IntegerIncrementerGenerator();
+        final ByteBuffer integers = ByteBuffer.allocate(Integer.BYTES * 3);
+        integerGenerator.generateInto(integers, 3);
+        integers.flip();
+        assertEquals(1, integers.getInt());
+        assertEquals(2, integers.getInt());
+        assertEquals(3, integers.getInt());
+    }
+
+    @Test
+    void testOverflowDoesNotConsume() {
+        final LongIncrementerGenerator generator = new LongIncrementerGenerator();
+        assertThrows(BufferOverflowException.class, () -> generator.generateInto(ByteBuffer.allocate(15), 2));
+        assertEquals(1L, generator.generateLong());
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,100 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique;
+
+import be.darkkraft.concurrentunique.verified.VerifiedGenerator;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ChainedMapGeneratorTest {
+
+    @Test
+    void testMapsAreFused() {
+        final UniqueGenerator<String> generator = new FrameProbe().map(value -> value + 1).map(value -> value * 2).map(String::valueOf);
+
+        assertEquals(3, assertInstanceOf(ChainedMapGenerator.class, generator).getStageCount());
+        assertEquals("2", generator.generate());
+    }
+
+    @Test
+    void testMapSynchronizeChainHasOneWrapperEach() {
+        final FrameProbe probe = new FrameProbe();
+        final UniqueGenerator<Integer> generator = probe.map(value -> value + 1).map(value -> value * 2).synchronize();
+
+        assertSame(generator, generator.synchronize());
+        assertSame(generator, generator.synchronize().synchronize());
+        assertEquals(2, generator.generate());
+        assertEquals(1, probe.frames(ChainedMapGenerator.class, "generate"));
+        assertEquals(1, probe.frames(ChainedSynchronizedGenerator.class, "generate"));
+    }
+
+    @Test
+    void testVerifiedMapChainHasOneWrapperEach() {
+        final FrameProbe probe = new FrameProbe();
+        final VerifiedGenerator<Integer> generator = VerifiedGenerator.wrap(probe, 5, value -> false)
+                .map(value -> value + 1, value -> false)
+                .map(value -> value * 2, value -> false)
+                .synchronize();
+
+        assertSame(generator, generator.synchronize());
+        assertEquals(2, generator.generate());
+        assertEquals(1, probe.frames(ChainedMapGenerator.class, "generate"));
+        assertEquals(1, probe.frames("be.darkkraft.concurrentunique.verified.AbstractVerifiedGenerator", "regenerate"));
+    }
+
+    private static final class FrameProbe implements UniqueGenerator<Integer> {
+
+        private final AtomicInteger counter = new AtomicInteger();
+        private volatile StackWalker.StackFrame[] stack = new StackWalker.StackFrame[0];
+
+        @Override
+        public Integer generate() {
+            this.stack = StackWalker.getInstance().walk(frames -> frames.toArray(StackWalker.StackFrame[]::new));
+            return this.counter.getAndIncrement();
+        }
+
+        private long frames(final @NotNull Class<?> type, final @NotNull String method) {
+            return this.frames(type.getName(), method);
+        }
+
+        private long frames(final @NotNull String type, final @NotNull String method) {
+            long count = 0L;
+            for (final StackWalker.StackFrame frame : this.stack) {
+                if (frame.getClassName().equals(type) && frame.getMethodName().equals(method)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+    }
+
+}
\ No newline at end of file
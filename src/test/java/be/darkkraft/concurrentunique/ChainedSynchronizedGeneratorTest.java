@@ -0,0 +1,54 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique;
+
+import be.darkkraft.concurrentunique.generator.FakeIntegerGenerator;
+import be.darkkraft.concurrentunique.verified.VerifiedGenerator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChainedSynchronizedGeneratorTest {
+
+    @Test
+    void testComputeRunsOutsideLock() {
+        final UniqueGenerator<Integer> generator = new FakeIntegerGenerator().synchronize();
+
+        assertFalse(generator.<Boolean>compute(value -> Thread.holdsLock(generator)));
+        assertTrue(generator.<Boolean>computeLocked(value -> Thread.holdsLock(generator)));
+    }
+
+    @Test
+    void testVerifiedComputeRunsOutsideLock() {
+        final VerifiedGenerator<Integer> generator = new FakeIntegerGenerator().toConcurrentCacheVerified(5);
+
+        assertFalse(generator.<Boolean>compute(value -> Thread.holdsLock(generator)));
+        assertTrue(generator.<Boolean>computeLocked(value -> Thread.holdsLock(generator)));
+        assertSame(generator, generator.synchronize());
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique;
+
+import be.darkkraft.concurrentunique.generator.number.LongIncrementerGenerator;
+import be.darkkraft.concurrentunique.generator.uuid.UUIDGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class UniqueGeneratorStreamTest {
+
+    @Test
+    void testSizedStreamDoesNotOverGenerate() {
+        final AtomicInteger calls = new AtomicInteger();
+        final UniqueGenerator<Integer> generator = calls::incrementAndGet;
+
+        assertEquals(10, generator.stream(10L).toList().size());
+        assertEquals(5, generator.stream(100L).limit(5L).toList().size());
+        assertEquals(15, calls.get());
+    }
+
+    @Test
+    void testParallelStreamWithReservedBlocks() {
+        final LongIncrementerGenerator generator = new LongIncrementerGenerator();
+        final long size = 200_000L;
+
+        assertEquals(size, generator.parallelStream(size).distinct().count());
+        assertEquals(size, generator.map(value -> -value).parallelStream(size).distinct().count());
+    }
+
+    @Test
+    void testParallelStreamWithSplitRandom() {
+        final UUIDGenerator generator = UUIDGenerator.build(new SplittableRandom(42L));
+
+        assertEquals(100_000L, generator.parallelStream(100_000L).distinct().count());
+    }
+
+}
\ No newline at end of file
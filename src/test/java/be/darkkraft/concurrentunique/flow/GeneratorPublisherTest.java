@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.flow;
+
+import be.darkkraft.concurrentunique.UniqueGenerator;
+import be.darkkraft.concurrentunique.generator.FakeIntegerGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class GeneratorPublisherTest {
+
+    @Test
+    void testRespectsDemand() {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        new GeneratorPublisher<>(new FakeIntegerGenerator(), Runnable::run, 4).subscribe(subscriber);
+
+        subscriber.subscription.request(10L);
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), subscriber.received);
+        subscriber.subscription.request(2L);
+        assertEquals(12, subscriber.received.size());
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    void testCancelMidBatchDiscardsUndelivered() {
+        final List<Integer> discarded = new ArrayList<>();
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        subscriber.cancelOn = 2;
+        new GeneratorPublisher<>(new FakeIntegerGenerator(), Runnable::run, 8, discarded::add).subscribe(subscriber);
+
+        subscriber.subscription.request(6L);
+        assertEquals(List.of(0, 1, 2), subscriber.received);
+        assertEquals(List.of(3, 4, 5), discarded);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    void testExhaustedGeneratorSignalsError() {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        new FakeIntegerGenerator(new int[] {1, 2}).toSequentialCacheVerified(3)
+                .toPublisher(Runnable::run, 8)
+                .subscribe(subscriber);
+
+        subscriber.subscription.request(5L);
+        assertEquals(List.of(1, 2), subscriber.received);
+        assertInstanceOf(IllegalStateException.class, subscriber.error);
+    }
+
+    @Test
+    void testInvalidRequestSignalsError() {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        UniqueGenerator.<Integer>empty().toPublisher(Runnable::run, 1).subscribe(subscriber);
+
+        subscriber.subscription.request(0L);
+        assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+    }
+
+    private static final class RecordingSubscriber implements Flow.Subscriber<Integer> {
+
+        private final List<Integer> received = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private Throwable error;
+        private Integer cancelOn;
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(final Integer item) {
+            this.received.add(item);
+            if (item.equals(this.cancelOn)) {
+                this.subscription.cancel();
+            }
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+        }
+
+    }
+
+}
\ No newline at end of file
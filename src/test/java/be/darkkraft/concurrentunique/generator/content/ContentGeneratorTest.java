@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.generator.content;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContentGeneratorTest {
+
+    @Test
+    void testKnownVector() {
+        final Hash128 hash = Murmur3.hash128("hello".getBytes(StandardCharsets.US_ASCII), 0L);
+        assertEquals(0xcbd8a7b341bd9b02L, hash.high());
+        assertEquals(0x5b1e906a48ae1d19L, hash.low());
+    }
+
+    @Test
+    void testInputsAgree() {
+        final StringBuilder builder = new StringBuilder();
+        for (int length = 0; length < 40; length++) {
+            final String text = builder.toString();
+            final byte[] bytes = text.getBytes(StandardCharsets.UTF_16LE);
+            final Hash128 expected = Murmur3.hash128(bytes, 42L);
+
+            assertEquals(expected, Murmur3.hash128(text, 42L));
+            assertEquals(expected, Murmur3.hash128(ByteBuffer.wrap(bytes), 42L));
+            final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length + 3);
+            direct.put(new byte[3]).put(bytes).flip().position(3);
+            assertEquals(expected, Murmur3.hash128(direct, 42L));
+            assertEquals(3, direct.position());
+
+            final byte[] padded = new byte[bytes.length + 2];
+            System.arraycopy(bytes, 0, padded, 1, bytes.length);
+            assertEquals(expected, Murmur3.hash128(padded, 1, bytes.length, 42L));
+
+            builder.append((char) ('a' + length % 26));
+            if (length % 7 == 0) {
+                builder.append('\u00e9');
+            }
+        }
+    }
+
+    @Test
+    void testOutputs() {
+        final ContentGenerator<CharSequence, UUID> uuids = ContentGenerator.chars().map(Hash128::toUUID);
+        final UUID uuid = uuids.generate("content");
+        assertEquals(uuid, uuids.apply("content"));
+        assertNotEquals(uuid, uuids.generate("Content"));
+        assertEquals(8, uuid.version());
+        assertEquals(2, uuid.variant());
+
+        final ContentGenerator<byte[], String> encoded = ContentGenerator.bytes(7L).map(Hash128::toEncoded);
+        final String text = encoded.generate(new byte[] {1, 2, 3});
+        assertEquals(Hash128.ENCODED_LENGTH, text.length());
+        assertTrue(text.chars().allMatch(Character::isLetterOrDigit));
+        assertNotEquals(text, ContentGenerator.bytes().map(Hash128::toEncoded).generate(new byte[] {1, 2, 3}));
+
+        assertEquals("AAAAAAAAAAAAAAAAAAAAAB", new Hash128(0L, 1L).toEncoded());
+        assertEquals("V8qRkBGKRiPAAAAAAAAAAA", new Hash128(-1L, 0L).toEncoded());
+        assertEquals(Murmur3.hash128(new byte[0], 0L).high(), ContentGenerator.buffers().map(Hash128::toLong).generate(ByteBuffer.allocate(0)));
+    }
+
+}
\ No newline at end of file
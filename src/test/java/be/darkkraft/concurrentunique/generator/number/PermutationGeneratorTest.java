@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.generator.number;
+
+import be.darkkraft.concurrentunique.generator.string.EncodedStringGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PermutationGeneratorTest {
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void testCoversDomainOnce() {
+        final PermutationGenerator generator = new PermutationGenerator(1000L, 42L);
+        final Set<Long> generated = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            final long value = generator.generateLong();
+            assertTrue(value >= 0L && value < 1000L);
+            assertTrue(generated.add(value));
+        }
+        assertEquals(0L, generator.remaining());
+        assertNull(generator.generate());
+        assertThrows(IllegalStateException.class, generator::generateLong);
+    }
+
+    @Test
+    void testCheckpointRestore() {
+        final PermutationGenerator generator = new PermutationGenerator(500L, 7L);
+        for (int i = 0; i < 100; i++) {
+            generator.generateLong();
+        }
+        final long checkpoint = generator.checkpoint();
+        final long expected = generator.generateLong();
+
+        final PermutationGenerator restored = new PermutationGenerator(500L, 7L);
+        restored.restore(checkpoint);
+        assertEquals(expected, restored.generateLong());
+        assertThrows(IllegalArgumentException.class, () -> restored.restore(501L));
+    }
+
+    @Test
+    void testShardsAreDisjoint() {
+        final PermutationGenerator generator = new PermutationGenerator(1003L, 3L);
+        final Set<Long> generated = new HashSet<>();
+        for (int shard = 0; shard < 4; shard++) {
+            final PermutationGenerator sharded = generator.shard(shard, 4);
+            while (sharded.remaining() > 0L) {
+                assertTrue(generated.add(sharded.generateLong()));
+            }
+        }
+        assertEquals(1003, generated.size());
+    }
+
+    @Test
+    void testEncoded() {
+        final PermutationGenerator generator = new PermutationGenerator(EncodedStringGenerator.capacity(2), 11L);
+        final EncodedStringGenerator encoded = generator.toEncoded(2);
+        final Set<String> generated = new HashSet<>();
+        for (int i = 0; i < 62 * 62; i++) {
+            assertTrue(generated.add(encoded.generate()));
+        }
+        assertThrows(IllegalStateException.class, encoded::generate);
+        assertThrows(IllegalArgumentException.class, () -> generator.toEncoded(3));
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.generator.string;
+
+import be.darkkraft.concurrentunique.generator.number.LongIncrementerGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EncodedStringGeneratorTest {
+
+    @Test
+    void testFixedWidthEncoding() {
+        final EncodedStringGenerator generator = EncodedStringGenerator.build(6, new LongIncrementerGenerator()::generateLong);
+
+        assertEquals("AAAAAB", generator.generate());
+        assertEquals("AAAAAC", generator.generate());
+        assertEquals(61L, generator.decode("AAAAA9"));
+        assertEquals(62L, generator.decode("AAAABA"));
+    }
+
+    @Test
+    void testScrambledCoversWholeKeySpace() {
+        final AtomicLong counter = new AtomicLong();
+        final EncodedStringGenerator generator = EncodedStringGenerator.build(2, counter::getAndIncrement, 42L);
+        final Set<String> generated = new HashSet<>();
+        for (long i = 0; i < generator.getCapacity(); i++) {
+            final String value = generator.generate();
+            assertEquals(2, value.length());
+            assertEquals(i, generator.decode(value));
+            assertTrue(generated.add(value));
+        }
+        assertThrows(IllegalStateException.class, generator::generate);
+    }
+
+    @Test
+    void testLongestLengthRoundTrip() {
+        final EncodedStringGenerator generator = EncodedStringGenerator.build(12, () -> 0L, 7L);
+
+        assertEquals(Long.MAX_VALUE, generator.getCapacity());
+        for (final long value : new long[] {0L, 1L, 123_456_789L, Long.MAX_VALUE - 1L}) {
+            assertEquals(value, generator.decode(generator.encode(value)));
+        }
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.jfr;
+
+import be.darkkraft.concurrentunique.generator.FakeIntegerGenerator;
+import be.darkkraft.concurrentunique.verified.VerifiedGenerator;
+import be.darkkraft.concurrentunique.verified.cache.ConcurrentFullCacheGenerator;
+import be.darkkraft.concurrentunique.verified.cache.FullCacheGeneratorBuilder;
+import jdk.jfr.EventType;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeneratorEventsTest {
+
+    @Test
+    void testDisabledByDefault() {
+        assertFalse(EventType.getEventType(GenerateEvent.class).isEnabled());
+        assertFalse(EventType.getEventType(CollisionEvent.class).isEnabled());
+        assertFalse(EventType.getEventType(LockContentionEvent.class).isEnabled());
+        assertFalse(EventType.getEventType(CacheResizeEvent.class).isEnabled());
+        assertFalse(EventType.getEventType(CachePurgeEvent.class).isEnabled());
+    }
+
+    @Test
+    void testEventsAreRecorded(final @TempDir Path directory) throws IOException {
+        final Path file = directory.resolve("events.jfr");
+        try (final Recording recording = new Recording()) {
+            recording.enable(GenerateEvent.class);
+            recording.enable(CollisionEvent.class);
+            recording.enable(LockContentionEvent.class);
+            recording.enable(CacheResizeEvent.class);
+            recording.enable(CachePurgeEvent.class);
+            recording.start();
+
+            final ConcurrentFullCacheGenerator<Integer> cache = new FullCacheGeneratorBuilder<>(new FakeIntegerGenerator(new int[] {1, 1, 1, 2}))
+                    .maxRetry(2)
+                    .resizeListener((previousCapacity, capacity, size) -> {
+                    })
+                    .buildConcurrent();
+            for (int i = 0; i < 20; i++) {
+                cache.generate();
+            }
+            cache.ensureCapacity(1000);
+            cache.purge();
+            VerifiedGenerator.wrap(new FakeIntegerGenerator(), 1, value -> false).synchronize().generate();
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        final List<RecordedEvent> generated = events.stream().filter(event -> event.getEventType().getName().endsWith(".Generate")).toList();
+        assertEquals(21, generated.size());
+        assertEquals(1, generated.get(1).getInt("retries"));
+        assertTrue(generated.get(1).getBoolean("exhausted"));
+        assertEquals(Thread.currentThread().getName(), generated.get(0).getThread().getJavaName());
+        assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().endsWith(".Collision")));
+        assertEquals(21, events.stream().filter(event -> event.getEventType().getName().endsWith(".LockContention")).count());
+        assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().endsWith(".CacheResize") && event.getInt("capacity") == 1000));
+        assertEquals(1, events.stream().filter(event -> event.getEventType().getName().endsWith(".CachePurge")).count());
+    }
+
+}
\ No newline at end of file
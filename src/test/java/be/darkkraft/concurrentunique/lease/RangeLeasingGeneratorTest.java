@@ -0,0 +1,136 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.lease;
+
+import be.darkkraft.concurrentunique.UniqueGenerator;
+import be.darkkraft.concurrentunique.generator.string.EncodedStringGenerator;
+import be.darkkraft.concurrentunique.stress.UniquenessStress;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RangeLeasingGeneratorTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testLeasesPerBlock() {
+        final AtomicInteger leases = new AtomicInteger();
+        final RangeCoordinator delegate = RangeCoordinator.inMemory();
+        final RangeCoordinator coordinator = size -> {
+            leases.incrementAndGet();
+            return delegate.lease(size);
+        };
+        final RangeLeasingGenerator generator = new RangeLeasingGenerator(coordinator, 100, Runnable::run);
+        for (long expected = 0L; expected < 1000L; expected++) {
+            assertEquals(expected, generator.generateLong());
+        }
+        assertEquals(11, leases.get());
+    }
+
+    @Test
+    void testRejectedPrefetchFallsBackToSynchronousLease() {
+        final AtomicInteger leases = new AtomicInteger();
+        final RangeCoordinator delegate = RangeCoordinator.inMemory();
+        final RangeCoordinator coordinator = size -> {
+            leases.incrementAndGet();
+            return delegate.lease(size);
+        };
+        final RangeLeasingGenerator generator = new RangeLeasingGenerator(coordinator, 100, command -> {
+            throw new RejectedExecutionException("rejected");
+        });
+        for (long expected = 0L; expected < 1000L; expected++) {
+            assertEquals(expected, generator.generateLong());
+        }
+        assertEquals(10, leases.get());
+    }
+
+    @Test
+    void testShutdownExecutor() {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+        final RangeLeasingGenerator generator = new RangeLeasingGenerator(RangeCoordinator.inMemory(), 16, executor);
+        final Set<Long> generated = new HashSet<>();
+        assertTimeoutPreemptively(Duration.ofSeconds(10L), () -> {
+            for (int i = 0; i < 200; i++) {
+                assertTrue(generated.add(generator.generateLong()));
+            }
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4, 16})
+    void testNodesShareCoordinator(final int threads) {
+        final RangeCoordinator coordinator = RangeCoordinator.inMemory();
+        final RangeLeasingGenerator first = new RangeLeasingGenerator(coordinator, 64);
+        final RangeLeasingGenerator second = new RangeLeasingGenerator(coordinator, 64);
+        final AtomicInteger turn = new AtomicInteger();
+        final UniquenessStress.Report report = UniquenessStress.run("RangeLeasingGenerator",
+                () -> (turn.getAndIncrement() & 1) == 0 ? first.generateLong() : second.generateLong(), Long::longValue, threads);
+
+        assertEquals(0L, report.duplicates());
+        assertEquals(0L, report.nulls());
+    }
+
+    @Test
+    void testFileCoordinator() {
+        final Path file = this.directory.resolve("ranges");
+        final Set<Long> generated = new HashSet<>();
+        for (int node = 0; node < 3; node++) {
+            final RangeLeasingGenerator generator = new RangeLeasingGenerator(RangeCoordinator.file(file), 10, Runnable::run);
+            for (int i = 0; i < 25; i++) {
+                assertTrue(generated.add(generator.generateLong()));
+            }
+        }
+        assertEquals(new LeasedRange(90L, 100L), RangeCoordinator.file(file).lease(10));
+    }
+
+    @Test
+    void testEncodedOutput() {
+        final EncodedStringGenerator encoder = EncodedStringGenerator.build(6, () -> 0L, 5L);
+        final RangeLeasingGenerator leasing = new RangeLeasingGenerator(RangeCoordinator.inMemory(), 32);
+        final UniqueGenerator<String> generator = leasing.map(encoder::encode);
+        final Set<String> generated = new HashSet<>();
+        for (int i = 0; i < 500; i++) {
+            assertTrue(generated.add(generator.generate()));
+        }
+    }
+
+}
\ No newline at end of file
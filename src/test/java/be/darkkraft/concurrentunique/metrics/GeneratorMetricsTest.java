@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.metrics;
+
+import be.darkkraft.concurrentunique.UniqueGenerator;
+import be.darkkraft.concurrentunique.generator.FakeIntegerGenerator;
+import be.darkkraft.concurrentunique.verified.AbstractVerifiedGenerator;
+import be.darkkraft.concurrentunique.verified.VerifiedGenerator;
+import be.darkkraft.concurrentunique.verified.cache.ConcurrentFullCacheGenerator;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeneratorMetricsTest {
+
+    @Test
+    void testVerifiedCacheMetrics() {
+        final GeneratorMetrics metrics = new GeneratorMetrics();
+        final UniqueGenerator<Integer> generator =
+                new ConcurrentFullCacheGenerator<>(new FakeIntegerGenerator(new int[] {1, 2, 3}), 5).instrumented(metrics);
+
+        for (int i = 0; i < 3; i++) {
+            generator.generate();
+        }
+        assertNull(generator.generate());
+
+        assertEquals(4L, metrics.getGenerateCount());
+        assertEquals(5L, metrics.getCollisionCount());
+        assertEquals(4L, metrics.getRetryCount());
+        assertEquals(1L, metrics.getExhaustedCount());
+        assertEquals(3, metrics.getCacheSize());
+        assertEquals(4L, metrics.getLockWait().getCount());
+    }
+
+    @Test
+    void testNestedInstrumentationForwardsBothSinks() {
+        final GeneratorMetrics inner = new GeneratorMetrics();
+        final GeneratorMetrics outer = new GeneratorMetrics();
+        final UniqueGenerator<Integer> generator =
+                new ConcurrentFullCacheGenerator<>(new FakeIntegerGenerator(new int[] {1, 1, 2}), 5).instrumented(inner).instrumented(outer);
+
+        generator.generate();
+        generator.generate();
+
+        for (final GeneratorMetrics metrics : new GeneratorMetrics[] {inner, outer}) {
+            assertEquals(2L, metrics.getGenerateCount());
+            assertEquals(1L, metrics.getCollisionCount());
+            assertEquals(1L, metrics.getRetryCount());
+            assertEquals(2, metrics.getCacheSize());
+        }
+    }
+
+    @Test
+    void testSynchronizeKeepsLegacyOverride() {
+        final Set<Integer> issued = new HashSet<>();
+        final VerifiedGenerator<Integer> legacy = new AbstractVerifiedGenerator<>(new FakeIntegerGenerator(new int[] {1, 1, 2}), 5) {
+            @Override
+            public Integer generate(final int maxRetry) {
+                final Integer generated = super.generate(maxRetry);
+                if (generated != null) {
+                    issued.add(generated);
+                }
+                return generated;
+            }
+
+            @Override
+            public boolean isAlreadyExists(final @NotNull Integer generated) {
+                return issued.contains(generated);
+            }
+        };
+        final VerifiedGenerator<Integer> generator = legacy.synchronize();
+
+        assertEquals(1, generator.generate());
+        assertEquals(2, generator.generate(5, MetricsSink.noop()));
+        assertEquals(Set.of(1, 2), issued);
+    }
+
+    @Test
+    void testDisabledReturnsSameGenerator() {
+        final UniqueGenerator<Integer> generator = new FakeIntegerGenerator();
+
+        assertSame(generator, generator.instrumented(MetricsSink.noop()));
+    }
+
+    @Test
+    void testHistogramPrecision() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1L; value <= 1_000_000L; value++) {
+            histogram.record(value);
+        }
+
+        final long median = histogram.getValueAtPercentile(50.0D);
+        assertTrue(Math.abs(median - 500_000L) <= 500_000L / 16L, "median " + median);
+        assertEquals(1_000_000L, histogram.getValueAtPercentile(100.0D));
+        assertEquals(1_000_000L, histogram.getMax());
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.render;
+
+import be.darkkraft.concurrentunique.generator.string.AlphanumericGenerator;
+import be.darkkraft.concurrentunique.generator.uuid.UUIDGenerator;
+import be.darkkraft.concurrentunique.supplier.RandomGeneratorSupplier;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class TextRendererTest {
+
+    @Test
+    void testVectorRendererIsLoaded() {
+        assumeTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent());
+        assertNotSame(TextRenderer.scalar(), TextRenderer.get());
+        assertTrue(TextRenderer.get().getName().startsWith("vector"));
+    }
+
+    @Test
+    void testAlphanumericMatchesScalar() {
+        final SplittableRandom random = new SplittableRandom(1L);
+        final int[] values = random.ints(1003).toArray();
+        values[0] = 0;
+        values[1] = -1;
+        final byte[] scalar = new byte[values.length];
+        final byte[] preferred = new byte[values.length];
+        TextRenderer.scalar().renderAlphanumeric(values, scalar, values.length);
+        TextRenderer.get().renderAlphanumeric(values, preferred, values.length);
+
+        assertArrayEquals(scalar, preferred);
+        assertEquals('A', scalar[0]);
+        assertEquals('9', scalar[1]);
+        assertTrue(new String(scalar, StandardCharsets.ISO_8859_1).matches("[A-Za-z0-9]+"));
+    }
+
+    @Test
+    void testUuidsMatchToString() {
+        final SplittableRandom random = new SplittableRandom(2L);
+        final int count = 37;
+        final long[] bits = random.longs(count * 2L).toArray();
+        final byte[] scalar = new byte[count * TextRenderer.UUID_LENGTH];
+        final byte[] preferred = new byte[scalar.length];
+        TextRenderer.scalar().renderUuids(bits, scalar, count);
+        TextRenderer.get().renderUuids(bits, preferred, count);
+
+        assertArrayEquals(scalar, preferred);
+        for (int i = 0; i < count; i++) {
+            final String expected = new UUID(bits[i << 1], bits[(i << 1) + 1]).toString();
+            assertEquals(expected, new String(scalar, i * TextRenderer.UUID_LENGTH, TextRenderer.UUID_LENGTH, StandardCharsets.ISO_8859_1));
+        }
+    }
+
+    @Test
+    void testBatchGeneration() {
+        final List<String> uuids = UUIDGenerator.build(RandomGeneratorSupplier.Type.FAST_SEQUENTIAL).generateStrings(5000);
+        assertEquals(5000, uuids.size());
+        for (final String uuid : uuids) {
+            final UUID parsed = UUID.fromString(uuid);
+            assertEquals(4, parsed.version());
+            assertEquals(2, parsed.variant());
+            assertEquals(uuid, parsed.toString());
+        }
+
+        final List<String> tokens = AlphanumericGenerator.build(12, RandomGeneratorSupplier.Type.FAST_SEQUENTIAL).generateStrings(7000);
+        assertEquals(7000, tokens.size());
+        assertTrue(tokens.stream().allMatch(token -> token.length() == 12 && token.matches("[A-Za-z0-9]+")));
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.stress;
+
+import be.darkkraft.concurrentunique.UniqueGenerator;
+import be.darkkraft.concurrentunique.generator.number.IntegerIncrementerGenerator;
+import be.darkkraft.concurrentunique.generator.number.LongIncrementerGenerator;
+import be.darkkraft.concurrentunique.generator.string.EncodedStringGenerator;
+import be.darkkraft.concurrentunique.verified.cache.BiasedCacheGenerator;
+import be.darkkraft.concurrentunique.verified.cache.ConcurrentFullCacheGenerator;
+import be.darkkraft.concurrentunique.verified.cache.SequentialFullCacheGenerator;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ConcurrentUniquenessStressTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 4, 8, 16})
+    void testConcurrentFullCache(final int threads) {
+        final int bound = threads * UniquenessStress.ITERATIONS * 2;
+        final ConcurrentFullCacheGenerator<Integer> generator =
+                new ConcurrentFullCacheGenerator<>(() -> ThreadLocalRandom.current().nextInt(bound), 50);
+
+        final UniquenessStress.Report report = UniquenessStress.run("ConcurrentFullCacheGenerator", generator::generate,
+                Integer::longValue, threads, UniquenessStress.ITERATIONS, generator::size);
+
+        assertEquals(0L, report.duplicates());
+        assertEquals(0L, report.lost());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 4, 8, 16})
+    void testBiasedCache(final int threads) {
+        final int bound = threads * UniquenessStress.ITERATIONS * 2;
+        final BiasedCacheGenerator<Integer> generator =
+                new BiasedCacheGenerator<>(() -> ThreadLocalRandom.current().nextInt(bound), 50);
+
+        final UniquenessStress.Report report = UniquenessStress.run("BiasedCacheGenerator", generator::generate,
+                Integer::longValue, threads, UniquenessStress.ITERATIONS, generator::size);
+
+        assertEquals(0L, report.duplicates());
+        assertEquals(0L, report.lost());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 4, 8, 16})
+    void testSynchronizedSequentialFullCache(final int threads) {
+        final int bound = threads * UniquenessStress.ITERATIONS * 2;
+        final UniqueGenerator<Integer> generator =
+                new SequentialFullCacheGenerator<>(() -> ThreadLocalRandom.current().nextInt(bound), 50).synchronize();
+
+        assertEquals(0L, UniquenessStress.run("SequentialFullCacheGenerator#synchronize", generator::generate,
+                Integer::longValue, threads).duplicates());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 4, 8, 16})
+    void testSynchronizedUnsafeGenerator(final int threads) {
+        final int[] counter = new int[1];
+        final UniqueGenerator<Integer> generator = ((UniqueGenerator<Integer>) () -> counter[0]++).synchronize();
+
+        assertEquals(0L, UniquenessStress.run("UniqueGenerator#synchronize", generator::generate,
+                Integer::longValue, threads).duplicates());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 4, 8, 16})
+    void testIncrementers(final int threads) {
+        final IntegerIncrementerGenerator integers = new IntegerIncrementerGenerator();
+        final LongIncrementerGenerator longs = new LongIncrementerGenerator();
+
+        assertEquals(0L, UniquenessStress.run("IntegerIncrementerGenerator", integers::generateInt,
+                Integer::longValue, threads).duplicates());
+        assertEquals(0L, UniquenessStress.run("LongIncrementerGenerator", longs::generateLong,
+                Long::longValue, threads).duplicates());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 4, 8, 16})
+    void testEncodedStrings(final int threads) {
+        final EncodedStringGenerator generator = EncodedStringGenerator.build(8, new LongIncrementerGenerator()::generateLong, 42L);
+
+        assertEquals(0L, UniquenessStress.run("EncodedStringGenerator", generator::generate,
+                generator::decode, threads).duplicates());
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,130 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.stress;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+public final class UniquenessStress {
+
+    public static final int ITERATIONS = Integer.getInteger("stress.iterations", 20_000);
+    private static final boolean VERBOSE = Boolean.getBoolean("stress.verbose");
+
+    private UniquenessStress() {
+    }
+
+    public static <T> @NotNull Report run(final @NotNull String name,
+                                          final @NotNull Supplier<T> generator,
+                                          final @NotNull ToLongFunction<? super T> key,
+                                          final int threads) {
+        return run(name, generator, key, threads, ITERATIONS, null);
+    }
+
+    public static <T> @NotNull Report run(final @NotNull String name,
+                                          final @NotNull Supplier<T> generator,
+                                          final @NotNull ToLongFunction<? super T> key,
+                                          final int threads,
+                                          final int iterations,
+                                          final @Nullable LongSupplier reserved) {
+        Objects.requireNonNull(generator, "generator must not be null");
+        Objects.requireNonNull(key, "key must not be null");
+        final long[][] emitted = new long[threads][];
+        final int[] nulls = new int[threads];
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final Future<?>[] futures = new Future<?>[threads];
+            for (int thread = 0; thread < threads; thread++) {
+                final int index = thread;
+                futures[thread] = executor.submit(() -> {
+                    final long[] values = new long[iterations];
+                    int count = 0;
+                    start.await();
+                    for (int i = 0; i < iterations; i++) {
+                        final T generated = generator.get();
+                        if (generated == null) {
+                            nulls[index]++;
+                        } else {
+                            values[count++] = key.applyAsLong(generated);
+                        }
+                    }
+                    emitted[index] = Arrays.copyOf(values, count);
+                    return null;
+                });
+            }
+            final long begin = System.nanoTime();
+            start.countDown();
+            for (final Future<?> future : futures) {
+                future.get(5L, TimeUnit.MINUTES);
+            }
+            final long elapsed = System.nanoTime() - begin;
+
+            final long[] all = Arrays.stream(emitted).flatMapToLong(Arrays::stream).toArray();
+            Arrays.parallelSort(all);
+            long duplicates = 0L;
+            for (int i = 1; i < all.length; i++) {
+                if (all[i] == all[i - 1]) {
+                    duplicates++;
+                }
+            }
+            final long lost = reserved == null ? 0L : all.length - reserved.getAsLong();
+            final Report report = new Report(name, threads, all.length, Arrays.stream(nulls).sum(), duplicates, lost, elapsed);
+            if (VERBOSE) {
+                System.out.println(report);
+            }
+            return report;
+        } catch (final Exception exception) {
+            throw new IllegalStateException("Stress run " + name + " failed", exception);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public record Report(@NotNull String name, int threads, long generated, long nulls, long duplicates, long lost, long nanos) {
+
+        public double throughputPerThread() {
+            return this.generated / (this.nanos / 1_000_000_000.0D) / this.threads;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-40s threads=%-3d generated=%-9d nulls=%-6d duplicates=%-6d lost=%-6d ops/s/thread=%.0f",
+                    this.name, this.threads, this.generated, this.nulls, this.duplicates, this.lost, this.throughputPerThread());
+        }
+
+    }
+
+}
\ No newline at end of file
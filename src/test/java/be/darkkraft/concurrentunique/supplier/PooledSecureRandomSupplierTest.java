@@ -0,0 +1,77 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.supplier;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PooledSecureRandomSupplierTest {
+
+    @Test
+    void testGeneratorPerThread() {
+        final RandomGeneratorSupplier supplier = RandomGeneratorSupplier.build(RandomGeneratorSupplier.Type.SECURE_POOLED);
+        final RandomGenerator current = supplier.getRandomGenerator();
+        assertSame(current, supplier.getRandomGenerator());
+        assertNotSame(current, CompletableFuture.supplyAsync(supplier::getRandomGenerator).join());
+    }
+
+    @Test
+    void testRefillAndReseed() {
+        final RandomGenerator random = new PooledSecureRandomSupplier(64, 128L).getRandomGenerator();
+        final Set<Long> values = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            values.add(random.nextLong());
+            random.nextInt(62);
+        }
+        assertEquals(1000, values.size());
+
+        final byte[] bytes = new byte[1000];
+        random.nextBytes(bytes);
+        int zeros = 0;
+        for (final byte value : bytes) {
+            if (value == 0) {
+                zeros++;
+            }
+        }
+        assertTrue(zeros < 50);
+    }
+
+    @Test
+    void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new PooledSecureRandomSupplier(4, 1L));
+        assertThrows(IllegalArgumentException.class, () -> new PooledSecureRandomSupplier(64, 0L));
+    }
+
+}
\ No newline at end of file
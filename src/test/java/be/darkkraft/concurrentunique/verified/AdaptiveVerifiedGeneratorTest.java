@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.verified;
+
+import be.darkkraft.concurrentunique.generator.FakeIntegerGenerator;
+import be.darkkraft.concurrentunique.metrics.MetricsSink;
+import be.darkkraft.concurrentunique.supplier.RandomGeneratorSupplier;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveVerifiedGeneratorTest {
+
+    @Test
+    void testEscalatesBeforeFailing() {
+        final Set<Integer> issued = new HashSet<>();
+        final List<AdaptiveVerifiedGenerator.Level<Integer>> levels = List.of(
+                new AdaptiveVerifiedGenerator.Level<>(new FakeIntegerGenerator(new int[] {1, 2, 3}), 3L),
+                new AdaptiveVerifiedGenerator.Level<>(new FakeIntegerGenerator(IntStream.range(100, 200).toArray()), 100L));
+        final int[] escalations = new int[1];
+        final AdaptiveVerifiedGenerator<Integer> generator = new AdaptiveVerifiedGenerator<>(levels, 5,
+                AdaptiveVerifiedGenerator.DEFAULT_ESCALATION_THRESHOLD, issued::contains, (previous, next, rate) -> escalations[0]++);
+
+        for (int i = 0; i < 50; i++) {
+            final Integer generated = generator.generate();
+            assertNotNull(generated);
+            assertTrue(issued.add(generated));
+        }
+        assertEquals(1, generator.getLevel());
+        assertEquals(1, escalations[0]);
+        assertTrue(generator.getOccupancyEstimate() > 0.4D);
+    }
+
+    @Test
+    void testCollisionRateFollowsRetries() {
+        final Set<Integer> issued = new HashSet<>(Set.of(1, 2));
+        final AdaptiveVerifiedGenerator<Integer> generator = new AdaptiveVerifiedGenerator<>(
+                List.of(new AdaptiveVerifiedGenerator.Level<>(new FakeIntegerGenerator(new int[] {1, 2, 3}), 0L)), 5,
+                0.9D, issued::contains, (previous, next, rate) -> {
+        });
+        final int[] collisions = new int[1];
+        final MetricsSink sink = new MetricsSink() {
+            @Override
+            public void onCollision() {
+                collisions[0]++;
+            }
+        };
+
+        assertEquals(3, generator.generate(5, sink));
+        assertEquals(2, collisions[0]);
+        final double afterCollisions = 0.05D + 0.95D * 0.05D;
+        assertEquals(afterCollisions * 0.95D, generator.getCollisionRate(), 1.0E-9D);
+        assertNotSame(generator, generator.synchronize());
+    }
+
+    @Test
+    void testAlphanumericLevels() {
+        final AdaptiveVerifiedGenerator<String> generator = AdaptiveVerifiedGenerator.alphanumeric(4, 8,
+                RandomGeneratorSupplier.build(RandomGeneratorSupplier.Type.FAST_SEQUENTIAL), 5, value -> false);
+
+        assertEquals(5, generator.getLevelCount());
+        assertEquals(4, generator.generate().length());
+        assertEquals(0.0D, generator.getCollisionRate());
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.verified.cache;
+
+import be.darkkraft.concurrentunique.generator.FakeIntegerGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BiasedCacheGeneratorTest {
+
+    @Test
+    void testOwnerStaysBiased() {
+        final BiasedCacheGenerator<Integer> generator = new BiasedCacheGenerator<>(new FakeIntegerGenerator(new int[] {1, 2, 2, 3}), 2);
+        assertEquals(1, generator.generate());
+        assertEquals(2, generator.generate());
+        assertEquals(3, generator.generate());
+        assertNull(generator.generate());
+        assertTrue(generator.isAlreadyExists(2));
+        assertEquals(3, generator.size());
+        assertFalse(generator.isInflated());
+        assertSame(generator, generator.synchronize());
+    }
+
+    @Test
+    void testInflatesOnSecondThread() {
+        final BiasedCacheGenerator<Integer> generator = new BiasedCacheGenerator<>(new FakeIntegerGenerator(new int[] {1, 2, 3}), 3);
+        assertEquals(1, generator.generate());
+        assertEquals(2, generator.generate());
+
+        assertEquals(3, CompletableFuture.supplyAsync(generator::generate).join());
+        assertTrue(generator.isInflated());
+
+        assertNull(generator.generate());
+        assertTrue(generator.isAlreadyExists(1));
+        assertEquals(3, generator.size());
+    }
+
+    @Test
+    void testOwnerIsFirstGeneratingThread() {
+        final BiasedCacheGenerator<Integer> generator = new BiasedCacheGenerator<>(new FakeIntegerGenerator(), 5);
+        assertEquals(0, CompletableFuture.supplyAsync(generator::generate).join());
+        assertFalse(generator.isInflated());
+        assertEquals(1, generator.size());
+        assertTrue(generator.isInflated());
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,306 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.verified.cache;
+
+import be.darkkraft.concurrentunique.UniqueGenerator;
+import be.darkkraft.concurrentunique.generator.FakeIntegerGenerator;
+import be.darkkraft.concurrentunique.generator.number.IntegerIncrementerGenerator;
+import be.darkkraft.concurrentunique.verified.reservation.ReservingGenerator;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CacheJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRecoverFromSegments() throws IOException {
+        try (final JournaledCacheGenerator<Integer> generator = this.journaled(new int[] {1, 2, 3})) {
+            assertEquals(1, generator.generate());
+            assertEquals(2, generator.generate());
+        }
+        try (final JournaledCacheGenerator<Integer> generator = this.journaled(new int[] {1, 2, 3})) {
+            assertEquals(3, generator.generate());
+            assertNull(generator.generate());
+        }
+    }
+
+    @Test
+    void testCommittedReservationsAreJournaled() throws IOException {
+        try (final JournaledCacheGenerator<Integer> generator = this.journaled(new int[] {1, 2, 3})) {
+            final ReservingGenerator<Integer> reserving = generator.toReserving(Duration.ofMinutes(1));
+            assertTrue(Objects.requireNonNull(reserving.reserve()).commit());
+            assertTrue(Objects.requireNonNull(reserving.reserve()).rollback());
+        }
+        try (final JournaledCacheGenerator<Integer> generator = this.journaled(new int[] {1, 2, 3})) {
+            assertTrue(generator.isAlreadyExists(1));
+            assertFalse(generator.isAlreadyExists(2));
+            assertEquals(2, generator.generate());
+        }
+    }
+
+    @Test
+    void testSnapshotCompactsSegments() throws IOException {
+        try (final JournaledCacheGenerator<Integer> generator = this.journaled(new FakeIntegerGenerator())) {
+            for (int i = 0; i < 50; i++) {
+                generator.generate();
+            }
+            generator.snapshot();
+            for (int i = 0; i < 10; i++) {
+                generator.generate();
+            }
+            generator.snapshot();
+            generator.generate();
+        }
+        assertEquals(1L, this.count(CacheJournal.SNAPSHOT_PREFIX));
+        assertEquals(1L, this.count(CacheJournal.SEGMENT_PREFIX));
+
+        final Set<Integer> recovered = new HashSet<>();
+        try (final CacheJournal<Integer> journal = CacheJournal.open(this.directory, KeySerializer.integers())) {
+            journal.replay(recovered::add);
+        }
+        assertEquals(61, recovered.size());
+    }
+
+    @Test
+    void testTornTailIsIgnored() throws IOException {
+        try (final JournaledCacheGenerator<Integer> generator = this.journaled(new int[] {1, 2, 3})) {
+            generator.generate();
+            generator.generate();
+        }
+        final Path segment;
+        try (final Stream<Path> files = Files.list(this.directory)) {
+            segment = files.filter(file -> file.getFileName().toString().startsWith(CacheJournal.SEGMENT_PREFIX))
+                    .filter(file -> file.toFile().length() > 0L)
+                    .findFirst()
+                    .orElseThrow();
+        }
+        try (final FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0, 0, 0, 4, 0, 0}));
+        }
+
+        final List<Integer> recovered = new ArrayList<>();
+        try (final CacheJournal<Integer> journal = CacheJournal.open(this.directory, KeySerializer.integers())) {
+            assertEquals(2L, journal.replay(recovered::add));
+        }
+        assertEquals(List.of(1, 2), recovered);
+    }
+
+    @Test
+    void testTornTailSurvivesLaterRestarts() throws IOException {
+        try (final JournaledCacheGenerator<Integer> generator = this.journaled(new int[] {1, 2, 3})) {
+            generator.generate();
+        }
+        try (final FileChannel channel = FileChannel.open(this.segments().get(0), StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0, 0, 0, 4, 0, 0}));
+        }
+        try (final JournaledCacheGenerator<Integer> generator = this.journaled(new int[] {1, 2, 3})) {
+            assertEquals(2, generator.generate());
+        }
+        try (final JournaledCacheGenerator<Integer> generator = this.journaled(new int[] {1, 2, 3})) {
+            assertEquals(3, generator.generate());
+        }
+    }
+
+    @Test
+    void testCorruptedOlderSegmentFailsReplay() throws IOException {
+        try (final JournaledCacheGenerator<Integer> generator = this.journaled(new int[] {1, 2, 3})) {
+            generator.generate();
+            generator.generate();
+        }
+        try (final JournaledCacheGenerator<Integer> generator = this.journaled(new int[] {1, 2, 3})) {
+            generator.generate();
+        }
+        final Path oldest = this.segments().get(0);
+        try (final FileChannel channel = FileChannel.open(oldest, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {(byte) 0xFF}), channel.size() - 1L);
+        }
+        try (final CacheJournal<Integer> journal = CacheJournal.open(this.directory, KeySerializer.integers())) {
+            assertThrows(IOException.class, () -> journal.replay(key -> {
+            }));
+        }
+    }
+
+    @Test
+    void testFailedSerializerLeavesNoTornRecord() throws IOException {
+        final KeySerializer<Integer> failing = new KeySerializer<>() {
+            @Override
+            public int sizeOf(final @NotNull Integer key) {
+                return Integer.BYTES;
+            }
+
+            @Override
+            public void write(final @NotNull Integer key, final @NotNull ByteBuffer buffer) {
+                buffer.putShort((short) 0);
+                if (key < 0) {
+                    throw new IllegalArgumentException("Negative key: " + key);
+                }
+                buffer.putShort(key.shortValue());
+            }
+
+            @Override
+            public @NotNull Integer read(final @NotNull ByteBuffer buffer) {
+                return buffer.getInt();
+            }
+        };
+        try (final CacheJournal<Integer> journal = CacheJournal.open(this.directory, failing)) {
+            journal.append(1);
+            assertThrows(IllegalArgumentException.class, () -> journal.append(-1));
+            journal.append(2);
+        }
+        try (final CacheJournal<Integer> journal = CacheJournal.open(this.directory, failing)) {
+            journal.append(3);
+        }
+        final List<Integer> recovered = new ArrayList<>();
+        try (final CacheJournal<Integer> journal = CacheJournal.open(this.directory, failing)) {
+            assertEquals(3L, journal.replay(recovered::add));
+        }
+        assertEquals(List.of(1, 2, 3), recovered);
+    }
+
+    @Test
+    void testConcurrentAppends() throws Exception {
+        final int threads = 8;
+        final int perThread = 200;
+        try (final CacheJournal<UUID> journal = CacheJournal.open(this.directory, KeySerializer.uuids())) {
+            final ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                final List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    futures.add(executor.submit(() -> {
+                        for (int j = 0; j < perThread; j++) {
+                            journal.append(UUID.randomUUID());
+                        }
+                        return null;
+                    }));
+                }
+                for (final Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+        }
+        final Set<UUID> recovered = ConcurrentHashMap.newKeySet();
+        try (final CacheJournal<UUID> journal = CacheJournal.open(this.directory, KeySerializer.uuids())) {
+            journal.replay(recovered::add);
+        }
+        assertEquals(threads * perThread, recovered.size());
+    }
+
+    @Test
+    void testScheduledSnapshotsOnSequentialCache() throws Exception {
+        final Set<Integer> generated = new HashSet<>();
+        final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try (final JournaledCacheGenerator<Integer> generator = this.journaled(new IntegerIncrementerGenerator())) {
+            final ScheduledFuture<?> snapshots = generator.scheduleSnapshots(executor, Duration.ofMillis(1L));
+            for (int i = 0; i < 50_000; i++) {
+                generated.add(generator.generate());
+            }
+            assertFalse(snapshots.isDone());
+            snapshots.cancel(false);
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(1L, TimeUnit.MINUTES));
+        }
+
+        final Set<Integer> recovered = new HashSet<>();
+        try (final CacheJournal<Integer> journal = CacheJournal.open(this.directory, KeySerializer.integers())) {
+            journal.replay(recovered::add);
+        }
+        assertEquals(generated, recovered);
+    }
+
+    @Test
+    void testStringSerializer() {
+        final KeySerializer<String> serializer = KeySerializer.strings();
+        for (final String key : List.of("", "abc", "\u00e9", "\u20ac", "\ud83d\ude00")) {
+            final ByteBuffer buffer = ByteBuffer.allocate(serializer.sizeOf(key));
+            serializer.write(key, buffer);
+            assertFalse(buffer.hasRemaining());
+            assertEquals(key, serializer.read(buffer.flip()));
+            assertTrue(serializer.sizeOf(key) >= key.length());
+        }
+        for (final String key : List.of("\ud800", "a\udc00", "\ude00\ud83d", "\ud83d")) {
+            assertThrows(IllegalArgumentException.class, () -> serializer.sizeOf(key));
+            assertThrows(IllegalArgumentException.class, () -> serializer.write(key, ByteBuffer.allocate(16)));
+        }
+    }
+
+    private JournaledCacheGenerator<Integer> journaled(final int[] planned) throws IOException {
+        return this.journaled(new FakeIntegerGenerator(planned));
+    }
+
+    private JournaledCacheGenerator<Integer> journaled(final UniqueGenerator<Integer> delegate) throws IOException {
+        final CacheJournal<Integer> journal = CacheJournal.open(this.directory, KeySerializer.integers());
+        return new SequentialFullCacheGenerator<>(delegate, 5).journaled(journal);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (final Stream<Path> files = Files.list(this.directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith(CacheJournal.SEGMENT_PREFIX))
+                    .filter(file -> file.toFile().length() > 0L)
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private long count(final String prefix) throws IOException {
+        try (final Stream<Path> files = Files.list(this.directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith(prefix)).count();
+        }
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.verified.cache;
+
+import be.darkkraft.concurrentunique.generator.FakeIntegerGenerator;
+import be.darkkraft.concurrentunique.verified.reservation.Reservation;
+import be.darkkraft.concurrentunique.verified.reservation.ReservingGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CuckooFilterGeneratorTest {
+
+    @Test
+    void testNeverRepeats() {
+        final int[] planned = IntStream.range(0, 10_000).toArray();
+        final CuckooFilterGenerator<Integer> generator = new CuckooFilterGenerator<>(new FakeIntegerGenerator(planned), 4096, 64);
+        final Set<Integer> generated = new HashSet<>();
+        for (int i = 0; i < 4000; i++) {
+            final Integer value = generator.generate();
+            assertNotNull(value);
+            assertTrue(generated.add(value));
+        }
+        assertEquals(4000, generator.size());
+        for (final Integer value : generated) {
+            assertTrue(generator.isAlreadyExists(value));
+        }
+    }
+
+    @Test
+    void testRelease() {
+        final CuckooFilterGenerator<Integer> generator = new CuckooFilterGenerator<>(new FakeIntegerGenerator(new int[] {7}), 16, 2);
+        assertEquals(7, generator.generate());
+        assertTrue(generator.isAlreadyExists(7));
+        assertTrue(generator.release(7));
+        assertFalse(generator.isAlreadyExists(7));
+        assertFalse(generator.release(7));
+        assertEquals(7, generator.generate());
+    }
+
+    @Test
+    void testReleaseOnlyRemovesClaimedKeys() throws NoSuchMethodException {
+        final CuckooFilterGenerator<Integer> generator =
+                new CuckooFilterGenerator<>(new FakeIntegerGenerator(new int[] {1, 2, 3}), 16, 1, key -> key == 3 ? 0x1234_0000_0000_0005L : 0x5678_0000_0000_0003L);
+        assertEquals(1, generator.generate());
+
+        final ReservingGenerator<Integer> reserving = generator.toReserving(Duration.ofMinutes(1));
+        assertNull(reserving.reserve());
+        reserving.getStore().release(2);
+        assertTrue(generator.isAlreadyExists(1));
+        assertEquals(1, generator.size());
+
+        final Reservation<Integer> reservation = Objects.requireNonNull(reserving.reserve());
+        assertEquals(3, reservation.getValue());
+        assertTrue(reservation.rollback());
+        assertFalse(generator.isAlreadyExists(3));
+        assertTrue(generator.isAlreadyExists(1));
+        assertTrue(generator.isAlreadyExists(2));
+        assertFalse(Modifier.isPublic(CuckooFilterGenerator.class.getDeclaredMethod("release", Object.class).getModifiers()));
+    }
+
+}
\ No newline at end of file
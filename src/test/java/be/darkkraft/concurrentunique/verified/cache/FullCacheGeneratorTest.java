@@ -26,10 +26,26 @@ package be.darkkraft.concurrentunique.verified.cache;
 
 import be.darkkraft.concurrentunique.UniqueGenerator;
 import be.darkkraft.concurrentunique.generator.FakeIntegerGenerator;
+import be.darkkraft.concurrentunique.generator.number.IntegerIncrementerGenerator;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class FullCacheGeneratorTest {
 
@@ -56,6 +72,209 @@ class FullCacheGeneratorTest {
         assertNull(generator.generate());
     }
 
+    @Test
+    void testPreload() {
+        final FakeIntegerGenerator fakeGenerator = new FakeIntegerGenerator(new int[] {1, 2, 3, 4});
+        final FullCacheGenerator<Integer> generator = new ConcurrentFullCacheGenerator<>(fakeGenerator, 4);
+
+        generator.preload(List.of(1, 2, 4));
+        assertEquals(3, generator.size());
+        assertEquals(3, generator.generate());
+        assertNull(generator.generate());
+    }
+
+    @Test
+    void testExportImport() throws IOException {
+        final int[] planned = IntStream.range(0, 20_000).toArray();
+        final FullCacheGenerator<Integer> source = new SequentialFullCacheGenerator<>(new FakeIntegerGenerator(planned), 1);
+        for (int i = 0; i < planned.length; i++) {
+            source.generate();
+        }
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        assertEquals(planned.length, source.exportKeys(Channels.newChannel(output), KeySerializer.integers()));
+
+        final FullCacheGenerator<Integer> target = new ConcurrentFullCacheGenerator<>(new FakeIntegerGenerator(planned), 1);
+        final long imported = target.importKeys(Channels.newChannel(new ByteArrayInputStream(output.toByteArray())),
+                KeySerializer.integers(), planned.length);
+        assertEquals(planned.length, imported);
+        assertEquals(source.getKeys(), target.getKeys());
+
+        final Set<Integer> visited = new HashSet<>();
+        target.forEachKey(visited::add);
+        assertEquals(planned.length, visited.size());
+        assertNull(target.generate());
+    }
+
+    @Test
+    void testImportCorrupted() throws IOException {
+        final FullCacheGenerator<Integer> source = new SequentialFullCacheGenerator<>(new FakeIntegerGenerator(), 1);
+        source.generate();
+        source.generate();
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        source.exportKeys(Channels.newChannel(output), KeySerializer.integers());
+        final byte[] truncated = Arrays.copyOf(output.toByteArray(), output.size() - 1);
+
+        final FullCacheGenerator<Integer> target = new SequentialFullCacheGenerator<>(new FakeIntegerGenerator(), 1);
+        assertThrows(IOException.class, () -> target.importKeys(Channels.newChannel(new ByteArrayInputStream(truncated)), KeySerializer.integers()));
+        assertEquals(1, target.size());
+    }
+
+    @Test
+    void testBuilderResizeEvents() {
+        final int[] planned = IntStream.range(0, 1000).toArray();
+        final List<Integer> capacities = new ArrayList<>();
+        final FullCacheGenerator<Integer> generator = new FullCacheGeneratorBuilder<>(new FakeIntegerGenerator(planned))
+                .maxRetry(1)
+                .resizeListener((previousCapacity, capacity, size) -> capacities.add(capacity))
+                .buildSequential();
+        for (int i = 0; i < planned.length; i++) {
+            generator.generate();
+        }
+        assertEquals(List.of(32, 64, 128, 256, 512, 1024, 2048), capacities);
+    }
+
+    @Test
+    void testResizeThresholds() {
+        final List<Integer> sizes = new ArrayList<>();
+        final FullCacheGenerator<Integer> concurrent = new FullCacheGeneratorBuilder<>(UniqueGenerator.<Integer>empty())
+                .resizeListener((previousCapacity, capacity, size) -> sizes.add(size))
+                .buildConcurrent();
+        for (int i = 0; i < 12; i++) {
+            concurrent.addKey(i);
+        }
+        assertEquals(List.of(12), sizes);
+
+        sizes.clear();
+        final FullCacheGenerator<Integer> sequential = new FullCacheGeneratorBuilder<>(UniqueGenerator.<Integer>empty())
+                .resizeListener((previousCapacity, capacity, size) -> sizes.add(size))
+                .buildSequential();
+        for (int i = 0; i < 12; i++) {
+            sequential.addKey(i);
+        }
+        assertTrue(sizes.isEmpty());
+        sequential.addKey(12);
+        assertEquals(List.of(13), sizes);
+    }
+
+    @Test
+    void testResizeTrackerMirrorsInitialTables() {
+        final ResizeListener listener = (previousCapacity, capacity, size) -> {
+        };
+        final ResizeTracker concurrent = ResizeTracker.concurrent(listener, 0.75F, 1, 1000);
+        assertEquals(2048, concurrent.getCapacity());
+        assertEquals(1536, concurrent.getThreshold());
+        assertEquals(2, ResizeTracker.concurrent(listener, 0.75F, 1, 1).getCapacity());
+        assertEquals(16, ResizeTracker.concurrent(listener, 0.75F, 1, 0).getCapacity());
+
+        final ResizeTracker sequential = ResizeTracker.sequential(listener, 0.6F, 10);
+        assertEquals(32, sequential.getCapacity());
+        assertEquals(19, sequential.getThreshold());
+        sequential.onSize(20);
+        assertEquals(64, sequential.getCapacity());
+        assertEquals(38, sequential.getThreshold());
+    }
+
+    @Test
+    void testBuilderPresized() {
+        final int[] planned = IntStream.range(0, 1000).toArray();
+        final List<Integer> capacities = new ArrayList<>();
+        final FullCacheGenerator<Integer> generator = new FullCacheGeneratorBuilder<>(new FakeIntegerGenerator(planned))
+                .maxRetry(1)
+                .expectedCapacity(planned.length)
+                .concurrencyLevel(4)
+                .resizeListener((previousCapacity, capacity, size) -> capacities.add(capacity))
+                .buildConcurrent();
+        for (int i = 0; i < planned.length; i++) {
+            generator.generate();
+        }
+        assertEquals(planned.length, generator.size());
+        assertTrue(capacities.isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> new FullCacheGeneratorBuilder<>(UniqueGenerator.empty()).loadFactor(0.0F));
+    }
+
+    @Test
+    void testReleaseAndRecycle() {
+        final FakeIntegerGenerator fakeGenerator = new FakeIntegerGenerator(new int[] {1, 2, 3});
+        final FullCacheGenerator<Integer> generator = new FullCacheGeneratorBuilder<>(fakeGenerator)
+                .maxRetry(3)
+                .recycling(16)
+                .buildConcurrent();
+
+        assertEquals(1, generator.generate());
+        assertEquals(2, generator.generate());
+        assertTrue(generator.release(1));
+        assertFalse(generator.release(1));
+        assertEquals(1, generator.getRecycledCount());
+        assertEquals(1, generator.generate());
+        assertEquals(0, generator.getRecycledCount());
+        assertEquals(3, generator.generate());
+        assertNull(generator.generate());
+        assertEquals(3, generator.size());
+    }
+
+    @Test
+    void testReleaseDuringResize() throws Exception {
+        final ConcurrentFullCacheGenerator<Integer> generator = new ConcurrentFullCacheGenerator<>(new IntegerIncrementerGenerator(), 1);
+        final int count = 50_000;
+        for (int i = 0; i < count; i++) {
+            generator.generate();
+        }
+        final AtomicBoolean done = new AtomicBoolean();
+        final Thread resizer = new Thread(() -> {
+            int expectedSize = count;
+            while (!done.get()) {
+                expectedSize += 1_000;
+                generator.ensureCapacity(expectedSize);
+            }
+        });
+        resizer.start();
+        try {
+            for (int i = 1; i <= count; i++) {
+                assertTrue(generator.release(i));
+            }
+        } finally {
+            done.set(true);
+            resizer.join();
+        }
+        assertEquals(0, generator.size());
+    }
+
+    @Test
+    void testPurgeDuringResize() throws Exception {
+        final ConcurrentFullCacheGenerator<Integer> generator = new ConcurrentFullCacheGenerator<>(new IntegerIncrementerGenerator(), 1);
+        final int rounds = 50;
+        final AtomicBoolean done = new AtomicBoolean();
+        final Thread resizer = new Thread(() -> {
+            int expectedSize = 0;
+            while (!done.get()) {
+                expectedSize += 16;
+                generator.ensureCapacity(expectedSize);
+            }
+        });
+        resizer.start();
+        try {
+            for (int round = 0; round < rounds; round++) {
+                for (int i = 0; i < 1_000; i++) {
+                    generator.generate();
+                }
+                generator.purge();
+                assertEquals(0, generator.size());
+            }
+        } finally {
+            done.set(true);
+            resizer.join();
+        }
+    }
+
+    @Test
+    void testReleaseWithoutRecycling() {
+        final FullCacheGenerator<Integer> generator = new SequentialFullCacheGenerator<>(new FakeIntegerGenerator(new int[] {1}), 2);
+        assertEquals(1, generator.generate());
+        assertNull(generator.generate());
+        assertTrue(generator.release(1));
+        assertEquals(1, generator.generate());
+    }
+
     @Test
     void testAlwaysNull() {
         final UniqueGenerator<Integer> generator = new SequentialFullCacheGenerator<>(UniqueGenerator.empty(), 4);
@@ -0,0 +1,128 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.verified.cache;
+
+import be.darkkraft.concurrentunique.generator.number.IntegerIncrementerGenerator;
+import be.darkkraft.concurrentunique.stress.UniquenessStress;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntBitmapSetTest {
+
+    @Test
+    void testMatchesReference() {
+        final SplittableRandom random = new SplittableRandom(7L);
+        final IntBitmapSet bitmap = new IntBitmapSet();
+        final TreeSet<Integer> reference = new TreeSet<>();
+        for (int i = 0; i < 200_000; i++) {
+            final int value = random.nextInt(3) == 0 ? random.nextInt() : random.nextInt(20_000) - 10_000;
+            if (random.nextInt(4) == 0) {
+                assertEquals(reference.remove(value), bitmap.remove(value));
+            } else {
+                assertEquals(reference.add(value), bitmap.add(value));
+            }
+        }
+        assertEquals(reference.size(), bitmap.size());
+        for (int value = -10_000; value < 10_000; value++) {
+            assertEquals(reference.contains(value), bitmap.contains(value));
+        }
+
+        final List<Integer> iterated = new ArrayList<>();
+        bitmap.forEach(iterated::add);
+        final List<Integer> expected = new ArrayList<>(reference.tailSet(0));
+        expected.addAll(reference.headSet(0));
+        assertEquals(expected, iterated);
+    }
+
+    @Test
+    void testDenseContainersShrink() {
+        final IntBitmapSet bitmap = new IntBitmapSet();
+        for (int value = 0; value < 65_536; value++) {
+            assertTrue(bitmap.add(value));
+        }
+        assertTrue(bitmap.getSizeInBytes() < 65_536 / 4);
+        for (int value = 0; value < 65_536; value += 2) {
+            assertTrue(bitmap.remove(value));
+        }
+        assertEquals(32_768, bitmap.size());
+        for (int value = 1; value < 65_536; value += 2) {
+            assertTrue(bitmap.remove(value));
+        }
+        assertTrue(bitmap.isEmpty());
+        assertFalse(bitmap.intIterator().hasNext());
+    }
+
+    @Test
+    void testSerialization() throws IOException {
+        final IntBitmapSet bitmap = new IntBitmapSet();
+        for (int value = 0; value < 100_000; value += 3) {
+            bitmap.add(value);
+        }
+        bitmap.add(-1);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        bitmap.writeTo(Channels.newChannel(output));
+
+        final ConcurrentIntBitmapSet read = ConcurrentIntBitmapSet.readFrom(Channels.newChannel(new ByteArrayInputStream(output.toByteArray())));
+        assertEquals(bitmap, read);
+        assertTrue(read.contains(-1));
+
+        output.reset();
+        output.write(new byte[] {0, 0, 0, 0, 0, 0, 0, 0});
+        assertThrows(IOException.class, () -> IntBitmapSet.readFrom(Channels.newChannel(new ByteArrayInputStream(output.toByteArray()))));
+    }
+
+    @Test
+    void testBitmapCacheGenerators() {
+        final ConcurrentFullCacheGenerator<Integer> generator =
+                ConcurrentFullCacheGenerator.bitmap(() -> ThreadLocalRandom.current().nextInt(1 << 16), 200);
+        final UniquenessStress.Report report = UniquenessStress.run("ConcurrentFullCacheGenerator#bitmap", generator::generate,
+                Integer::longValue, 4, 5_000, generator::size);
+        assertEquals(0L, report.duplicates());
+        assertEquals(0L, report.lost());
+
+        final IntegerIncrementerGenerator incrementer = new IntegerIncrementerGenerator();
+        final SequentialFullCacheGenerator<Integer> sequential = SequentialFullCacheGenerator.bitmap(incrementer.map(value -> value % 10), 20);
+        for (int i = 0; i < 10; i++) {
+            sequential.generate();
+        }
+        assertNull(sequential.generate());
+    }
+
+}
\ No newline at end of file
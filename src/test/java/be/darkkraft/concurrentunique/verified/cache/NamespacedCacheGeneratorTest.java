@@ -0,0 +1,141 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.verified.cache;
+
+import be.darkkraft.concurrentunique.generator.FakeIntegerGenerator;
+import be.darkkraft.concurrentunique.generator.number.IntegerIncrementerGenerator;
+import be.darkkraft.concurrentunique.verified.VerifiedGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NamespacedCacheGeneratorTest {
+
+    @Test
+    void testNamespacesAreIndependent() {
+        final NamespacedCacheGenerator<Integer> cache = new NamespacedCacheGenerator<>(new FakeIntegerGenerator(new int[] {1, 2}), 2);
+        final VerifiedGenerator<Integer> first = cache.namespace("first");
+        final VerifiedGenerator<Integer> second = cache.namespace("second");
+        assertSame(first, cache.namespace("first"));
+
+        assertEquals(1, first.generate());
+        assertEquals(2, first.generate());
+        assertNull(first.generate());
+        assertEquals(1, second.generate());
+        assertTrue(second.isAlreadyExists(1));
+
+        assertEquals(2L, cache.size("first"));
+        assertEquals(1L, cache.size("second"));
+        assertEquals(2L * (NamespacedCacheGenerator.ENTRY_OVERHEAD + NamespacedCacheGenerator.DEFAULT_KEY_SIZE), cache.getMemoryEstimate("first"));
+        assertEquals(Set.of("first", "second"), cache.getNamespaces());
+    }
+
+    @Test
+    void testEvictAndCompact() {
+        final NamespacedCacheGenerator<Integer> cache = new NamespacedCacheGenerator<>(new FakeIntegerGenerator(new int[] {1, 2}), 2);
+        final VerifiedGenerator<Integer> tenant = cache.namespace("tenant");
+        final VerifiedGenerator<Integer> other = cache.namespace("other");
+        tenant.generate();
+        tenant.generate();
+        other.generate();
+        assertEquals(3, cache.getTableSize());
+
+        cache.evict("tenant");
+        assertEquals(0L, cache.size("tenant"));
+        assertEquals(0L, cache.getMemoryEstimate("tenant"));
+        assertEquals(0L, cache.getStaleCount());
+        assertEquals(1, cache.getTableSize());
+        assertFalse(tenant.isAlreadyExists(1));
+        assertEquals(2, tenant.generate());
+
+        assertEquals(0, cache.compact());
+        assertEquals(2, cache.getTableSize());
+        assertTrue(other.isAlreadyExists(1));
+    }
+
+    @Test
+    void testEvictCompactsOnceHalfTheTableIsStale() {
+        final NamespacedCacheGenerator<Integer> cache = new NamespacedCacheGenerator<>(new FakeIntegerGenerator(), 2);
+        final VerifiedGenerator<Integer> small = cache.namespace("small");
+        final VerifiedGenerator<Integer> large = cache.namespace("large");
+        small.generate();
+        for (int i = 0; i < 9; i++) {
+            large.generate();
+        }
+
+        cache.evict("small");
+        assertEquals(1L, cache.getStaleCount());
+        assertEquals(10, cache.getTableSize());
+
+        cache.evict("large");
+        assertEquals(0L, cache.getStaleCount());
+        assertEquals(0, cache.getTableSize());
+    }
+
+    @Test
+    void testConcurrentEvictionsKeepStaleCountExact() throws Exception {
+        final NamespacedCacheGenerator<Integer> cache = new NamespacedCacheGenerator<>(new IntegerIncrementerGenerator(), 2);
+        final VerifiedGenerator<Integer> tenant = cache.namespace("tenant");
+        final VerifiedGenerator<Integer> other = cache.namespace("other");
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 2; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        tenant.generate();
+                        other.generate();
+                    }
+                }));
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 2_000; i++) {
+                        cache.evict("tenant");
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(cache.getTableSize() - cache.size("tenant") - cache.size("other"), cache.getStaleCount());
+        cache.compact();
+        assertEquals(0L, cache.getStaleCount());
+        assertEquals(cache.size("tenant") + cache.size("other"), cache.getTableSize());
+    }
+
+}
\ No newline at end of file
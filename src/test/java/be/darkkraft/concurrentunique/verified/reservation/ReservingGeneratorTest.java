@@ -0,0 +1,198 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.verified.reservation;
+
+import be.darkkraft.concurrentunique.UniqueGenerator;
+import be.darkkraft.concurrentunique.generator.FakeIntegerGenerator;
+import be.darkkraft.concurrentunique.stress.UniquenessStress;
+import be.darkkraft.concurrentunique.verified.VerifiedGenerator;
+import be.darkkraft.concurrentunique.verified.cache.CuckooFilterGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReservingGeneratorTest {
+
+    @Test
+    void testReservationIsHiddenUntilRollback() {
+        final ReservingGenerator<Integer> generator =
+                VerifiedGenerator.wrap(new FakeIntegerGenerator(new int[] {1, 1, 2, 1}), 2, value -> false).toReserving(Duration.ofMinutes(1));
+
+        final Reservation<Integer> first = Objects.requireNonNull(generator.reserve());
+        assertEquals(1, first.getValue());
+        assertTrue(first.isActive());
+        assertTrue(generator.isReserved(1));
+
+        final Reservation<Integer> second = Objects.requireNonNull(generator.reserve());
+        assertEquals(2, second.getValue());
+        assertEquals(2, generator.getReservedCount());
+
+        assertTrue(first.rollback());
+        assertFalse(first.rollback());
+        assertFalse(first.commit());
+        assertFalse(generator.isReserved(1));
+        assertEquals(1, Objects.requireNonNull(generator.reserve()).getValue());
+    }
+
+    @Test
+    void testCommitPublishesValue() {
+        final Set<Integer> database = ConcurrentHashMap.newKeySet();
+        final ReservingGenerator<Integer> generator = new ReservingGenerator<>(
+                VerifiedGenerator.wrap(new FakeIntegerGenerator(new int[] {1, 1}), 2, database::contains), Duration.ofMinutes(1), database::add);
+
+        try (final Reservation<Integer> reservation = Objects.requireNonNull(generator.reserve())) {
+            assertTrue(reservation.commit());
+            assertTrue(reservation.isCommitted());
+            assertFalse(reservation.isActive());
+        }
+        assertEquals(Set.of(1), database);
+        assertEquals(0, generator.getReservedCount());
+        assertNull(generator.reserve());
+    }
+
+    @Test
+    void testCloseRollsBack() {
+        final ReservingGenerator<Integer> generator = VerifiedGenerator.wrap(new FakeIntegerGenerator(), 2, value -> false).toReserving(Duration.ofMinutes(1));
+        try (final Reservation<Integer> reservation = generator.reserve()) {
+            assertNotNull(reservation);
+            assertEquals(1, generator.getReservedCount());
+        }
+        assertEquals(0, generator.getReservedCount());
+    }
+
+    @Test
+    void testExpiredReservations() throws InterruptedException {
+        final ReservingGenerator<Integer> generator =
+                VerifiedGenerator.wrap(new FakeIntegerGenerator(new int[] {1, 2, 1}), 1, value -> false).toReserving(Duration.ofMillis(1));
+        final Reservation<Integer> first = Objects.requireNonNull(generator.reserve());
+        final Reservation<Integer> second = Objects.requireNonNull(generator.reserve());
+        Thread.sleep(20L);
+
+        assertFalse(first.isActive());
+        assertEquals(0L, first.getRemainingNanos());
+        assertFalse(first.commit());
+        assertEquals(1, generator.getReservedCount());
+        assertEquals(1, generator.sweep());
+        assertEquals(0, generator.getReservedCount());
+        assertFalse(second.commit());
+
+        assertEquals(1, Objects.requireNonNull(generator.reserve()).getValue());
+        assertThrows(IllegalArgumentException.class, () -> new ReservingGenerator<>(
+                VerifiedGenerator.wrap(new FakeIntegerGenerator(), 1, value -> false), Duration.ZERO));
+    }
+
+    @Test
+    void testFullCacheCommit() {
+        final VerifiedGenerator<Integer> cache = new FakeIntegerGenerator(new int[] {1, 1, 2}).toConcurrentCacheVerified(2);
+        final ReservingGenerator<Integer> generator = cache.toReserving(Duration.ofMinutes(1));
+        final Reservation<Integer> reservation = Objects.requireNonNull(generator.reserve());
+        assertTrue(cache.isAlreadyExists(1));
+        assertTrue(reservation.commit());
+        assertTrue(cache.isAlreadyExists(1));
+        assertEquals(2, Objects.requireNonNull(generator.reserve()).getValue());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"sequential", "concurrent", "biased", "synchronized", "cuckoo"})
+    void testCacheGenerateSkipsReservedKeys(final String kind) {
+        final FakeIntegerGenerator source = new FakeIntegerGenerator(new int[] {1, 1, 2, 1});
+        final VerifiedGenerator<Integer> cache = switch (kind) {
+            case "sequential" -> source.toSequentialCacheVerified(2);
+            case "concurrent" -> source.toConcurrentCacheVerified(2);
+            case "biased" -> source.toBiasedCacheVerified(2);
+            case "synchronized" -> source.toSequentialCacheVerified(2).synchronize();
+            default -> new CuckooFilterGenerator<>(source, 64, 2);
+        };
+        final ReservingGenerator<Integer> generator = cache.toReserving(Duration.ofMinutes(1));
+
+        final Reservation<Integer> reservation = Objects.requireNonNull(generator.reserve());
+        assertEquals(1, reservation.getValue());
+        assertEquals(2, cache.generate());
+        assertTrue(reservation.rollback());
+        assertFalse(cache.isAlreadyExists(1));
+        assertEquals(1, cache.generate());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 4, 8})
+    void testConcurrentCacheMixesGenerateAndReserve(final int threads) {
+        final int bound = threads * UniquenessStress.ITERATIONS * 2;
+        final UniqueGenerator<Integer> source = () -> ThreadLocalRandom.current().nextInt(bound);
+        final VerifiedGenerator<Integer> cache = source.toConcurrentCacheVerified(50);
+        final ReservingGenerator<Integer> generator = cache.toReserving(Duration.ofMinutes(1));
+        final AtomicInteger turn = new AtomicInteger();
+
+        final UniquenessStress.Report report = UniquenessStress.run("CacheReservations", () -> {
+            if ((turn.getAndIncrement() & 1) == 0) {
+                return cache.generate();
+            }
+            final Reservation<Integer> reservation = generator.reserve();
+            if (reservation == null || !reservation.commit()) {
+                return null;
+            }
+            return reservation.getValue();
+        }, Integer::longValue, threads, UniquenessStress.ITERATIONS, null);
+
+        assertEquals(0L, report.duplicates());
+        assertEquals(0, generator.getReservedCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 4, 8, 16})
+    void testConcurrentReservations(final int threads) {
+        final int bound = threads * UniquenessStress.ITERATIONS * 2;
+        final Set<Integer> database = ConcurrentHashMap.newKeySet();
+        final UniqueGenerator<Integer> source = () -> ThreadLocalRandom.current().nextInt(bound);
+        final ReservingGenerator<Integer> generator =
+                new ReservingGenerator<>(VerifiedGenerator.wrap(source, 50, database::contains), Duration.ofMinutes(1), database::add);
+
+        final UniquenessStress.Report report = UniquenessStress.run("ReservingGenerator", () -> {
+            final Reservation<Integer> reservation = generator.reserve();
+            if (reservation == null || !reservation.commit()) {
+                return null;
+            }
+            return reservation.getValue();
+        }, Integer::longValue, threads, UniquenessStress.ITERATIONS, database::size);
+
+        assertEquals(0L, report.duplicates());
+        assertEquals(0L, report.lost());
+        assertEquals(0, generator.getReservedCount());
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Darkkraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.darkkraft.concurrentunique.render;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+public final class VectorTextRenderer implements TextRenderer {
+
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Byte> CHARS = VectorSpecies.of(byte.class, VectorShape.forBitSize(Math.max(Long.SIZE, INTS.length() * Byte.SIZE)));
+    private static final VectorMask<Byte> CHARS_STORED = CHARS.indexInRange(0, INTS.length());
+    private static final boolean PARTIAL_STORE = CHARS.length() != INTS.length();
+    private static final VectorSpecies<Byte> BYTES = ByteVector.SPECIES_128;
+    private static final VectorShuffle<Byte> LOW_INTERLEAVE = interleave(0);
+    private static final VectorShuffle<Byte> HIGH_INTERLEAVE = interleave(BYTES.length() >>> 1);
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    @Override
+    public void renderAlphanumeric(final int @NotNull [] random, final byte @NotNull [] target, final int count) {
+        final int bound = INTS.loopBound(count);
+        int i = 0;
+        for (; i < bound; i += INTS.length()) {
+            final IntVector index = IntVector.fromArray(INTS, random, i)
+                    .lanewise(VectorOperators.LSHR, 8)
+                    .mul(ScalarTextRenderer.ALPHABET_SIZE)
+                    .lanewise(VectorOperators.LSHR, 24);
+            final IntVector chars = index.add('A')
+                    .add('a' - 'A' - 26, index.compare(VectorOperators.GE, 26))
+                    .add('0' - 'a' - 26, index.compare(VectorOperators.GE, 52));
+            final ByteVector bytes = (ByteVector) chars.convertShape(VectorOperators.I2B, CHARS, 0);
+            if (PARTIAL_STORE) {
+                bytes.intoArray(target, i, CHARS_STORED);
+            } else {
+                bytes.intoArray(target, i);
+            }
+        }
+        for (; i < count; i++) {
+            target[i] = ScalarTextRenderer.alphanumeric(random[i]);
+        }
+    }
+
+    @Override
+    public void renderUuids(final long @NotNull [] bits, final byte @NotNull [] target, final int count) {
+        final byte[] raw = new byte[BYTES.length()];
+        final byte[] hex = new byte[BYTES.length() << 1];
+        for (int i = 0; i < count; i++) {
+            LONGS.set(raw, 0, bits[i << 1]);
+            LONGS.set(raw, Long.BYTES, bits[(i << 1) + 1]);
+            final ByteVector bytes = ByteVector.fromArray(BYTES, raw, 0);
+            final ByteVector high = digits(bytes.lanewise(VectorOperators.LSHR, 4).and((byte) 0x0F));
+            final ByteVector low = digits(bytes.and((byte) 0x0F));
+            high.rearrange(LOW_INTERLEAVE, low).intoArray(hex, 0);
+            high.rearrange(HIGH_INTERLEAVE, low).intoArray(hex, BYTES.length());
+
+            final int offset = i * UUID_LENGTH;
+            System.arraycopy(hex, 0, target, offset, 8);
+            target[offset + 8] = '-';
+            System.arraycopy(hex, 8, target, offset + 9, 4);
+            target[offset + 13] = '-';
+            System.arraycopy(hex, 12, target, offset + 14, 4);
+            target[offset + 18] = '-';
+            System.arraycopy(hex, 16, target, offset + 19, 4);
+            target[offset + 23] = '-';
+            System.arraycopy(hex, 20, target, offset + 24, 12);
+        }
+    }
+
+    @Override
+    public @NotNull String getName() {
+        return "vector-" + INTS.vectorBitSize();
+    }
+
+    private static @NotNull ByteVector digits(final @NotNull ByteVector nibbles) {
+        return nibbles.add((byte) '0').add((byte) ('a' - '0' - 10), nibbles.compare(VectorOperators.GT, 9));
+    }
+
+    private static @NotNull VectorShuffle<Byte> interleave(final int from) {
+        final int[] indexes = new int[BYTES.length()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = from + (i >>> 1) + ((i & 1) == 0 ? 0 : BYTES.length());
+        }
+        return VectorShuffle.fromArray(BYTES, indexes, 0);
+    }
+
+}
\ No newline at end of file